@@ -16,6 +16,24 @@ import java.util.ArrayList;
  * Created by Diogo on 09-05-2016.
  */
 public class Slasher {
+
+    /**
+     * State of a moving slasher after each physics step.
+     */
+    public enum Status {
+        /**
+         * Still moving.
+         */
+        OK,
+        /**
+         * Reached the opposite edge of the gameArea.
+         */
+        END_REACHED,
+        /**
+         * Hit a ball.
+         */
+        GAME_OVER
+    }
     private GameWorld gameWorld;
     private Vector2 finger; //posicao onde o slasher ficará se houver um corte (levantar do dedo para cortar a caixa)
     private Vector2 position; //posicao atual do Slasher
@@ -155,15 +173,15 @@ public class Slasher {
 
     /**
      * Called as an animation of the Slasher
-     * @return message indicating the status of slasher.
+     * @return status of slasher.
      */
-    public String isMoving()
+    public Status isMoving()
     {
-        String message = checkCollisions();
-        if(message=="Game Over" || message=="Slasher End Reached")
+        Status status = checkCollisions();
+        if(status!=Status.OK)
         {
             finishedMoving();
-            return message;
+            return status;
         }
         //pre-calculations
         Vector2 midPoint = new Vector2((body.getPosition().x+position.x)/2,(body.getPosition().y+position.y)/2);
@@ -183,7 +201,7 @@ public class Slasher {
         bodyPath.setTransform(midPoint,(float)angle);
         bodyPath.createFixture(pathBox, 0);
 
-        return "OK";
+        return Status.OK;
     }
 
     /**
@@ -202,9 +220,9 @@ public class Slasher {
 
     /**
      * Check if the moving slasher collides with a gameArea line or a Ball.
-     * @return "Game Over" if collided with a ball, "Slasher End Reached" if collided with a line, "OK" otherwise.
+     * @return GAME_OVER if collided with a ball, END_REACHED if collided with a line, OK otherwise.
      */
-    private String checkCollisions()
+    private Status checkCollisions()
     {
         //check with balls
         ArrayList<Ball> balls=gameWorld.getBalls();
@@ -214,8 +232,7 @@ public class Slasher {
             double distance=Utilities.distance(ball,body.getPosition()); //distance between the centers o slasher and ball
             if(distance<2.8f*radius) //should be 2*radius, but as the bodies have a bit more radius, here we account for a bit more too
             {
-                Gdx.app.log("Slasher::checkCollisions","Game Over");
-                return "Game Over";
+                return Status.GAME_OVER;
             }
         }
 
@@ -238,13 +255,11 @@ public class Slasher {
                     distance2 = Math.abs(body.getPosition().x-functions[i].getX(body.getPosition().y));
             double distance = Math.min(distance1,distance2);
             if(distance < 2) {
-                Gdx.app.log("Slasher::checkCollisions","Slasher End Reached");
-                return "Slasher End Reached";
+                return Status.END_REACHED;
             }
         }
 
-        //Gdx.app.log("Slasher::checkCollisions","OK");
-        return "OK";
+        return Status.OK;
     }
 
     public void dispose()
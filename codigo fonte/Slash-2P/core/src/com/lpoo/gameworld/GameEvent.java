@@ -0,0 +1,32 @@
+package com.lpoo.gameworld;
+
+/**
+ * What can happen in a GameWorld. Published to its EventQueue with two int payloads, described in each type.
+ */
+public enum GameEvent {
+    /**
+     * The slasher reached the opposite edge and the GameArea was cut.
+     * first: number of balls captured by the slash, second: score after the slash.
+     */
+    SLASH_COMPLETED,
+    /**
+     * A ball was left out of the new GameArea by a slash.
+     * first and second: x and y where the ball was captured.
+     */
+    BALL_CAPTURED,
+    /**
+     * The redirecter appeared for the first time.
+     * first: score at which it appeared, second: unused.
+     */
+    REDIRECTER_SPAWNED,
+    /**
+     * The timer ran out before a slash was started. Followed by GAME_OVER.
+     * first: score, second: unused.
+     */
+    TIMER_EXPIRED,
+    /**
+     * The game ended (slasher hit a ball or the timer ran out). Published once.
+     * first: final score, second: highest score, already including this game's.
+     */
+    GAME_OVER
+}
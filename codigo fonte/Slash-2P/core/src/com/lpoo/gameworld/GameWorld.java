@@ -9,10 +9,8 @@ import com.lpoo.gameobjects.Ball;
 import com.lpoo.gameobjects.GameArea;
 import com.lpoo.gameobjects.Redirecter;
 import com.lpoo.gameobjects.Slasher;
-import com.lpoo.slash.GameOverScreen;
 import com.lpoo.slash.MenuScreen;
 import com.lpoo.slash.Slash;
-import com.lpoo.slash.VictoryScreen;
 import com.lpoo.slashhelpers.Function;
 
 import java.io.BufferedReader;
@@ -29,8 +27,6 @@ import java.util.Random;
 
 
 
-import static com.lpoo.slash.GameScreen.victory;
-import static com.lpoo.slashhelpers.Utilities.changeScreen;
 
 /**
  * Created by Diogo on 26-04-2016.
@@ -45,7 +41,12 @@ public class GameWorld {
     private ArrayList<Ball> balls;
     private Redirecter redirecter=null;
     private boolean slasherIsMoving=false;
+    private boolean gameOver=false;
     private Music music;
+    /**
+     * Events published by this game, dispatched to the consumers once per update.
+     */
+    private EventQueue events = new EventQueue();
 
     private static int highscore=0;
     public int score;
@@ -175,42 +176,53 @@ public class GameWorld {
         //update slasher
         if(slasherIsMoving)
         {
-            String message=slasher.isMoving();
-            if(message=="Slasher End Reached")
+            Slasher.Status status=slasher.isMoving();
+            if(status==Slasher.Status.END_REACHED)
             {
                 slasherIsMoving=false;
-                updateGameArea();
+                int capturedBalls = updateGameArea();
                 gameAreaCreationTime=new Date().getTime(); //reset timer
-                if(score>=redirecter.scoreLimit && redirecter==null)
+                events.publish(GameEvent.SLASH_COMPLETED, capturedBalls, score);
+                if(score>=redirecter.scoreLimit && redirecter==null) {
                     redirecter=new Redirecter(gameArea.getPoints());
+                    events.publish(GameEvent.REDIRECTER_SPAWNED, score, 0);
+                }
 
-            } else if(message=="Game Over") {
+            } else if(status==Slasher.Status.GAME_OVER) {
                 slasherIsMoving=false;
-                if (score > highscore)
-                    highscore = score;
-                //updateScoreFile();
-                music.pause();
-                finalscore=score;
-                if(victory())
-                    changeScreen(game, new VictoryScreen(game, score));
-                else changeScreen(game, new GameOverScreen(game, score));
-
-
+                endGame();
             }
         }
         else updateTimer();
-        if(timer<=0)
+        if(timer<=0 && !gameOver)
         {
-            if (score > highscore)
-                highscore = score;
-            //updateScoreFile();
-            finalscore=score;
-            if(victory())
-                changeScreen(game, new VictoryScreen(game,score));
-            else changeScreen(game, new GameOverScreen(game, score));
-            music.pause();
+            events.publish(GameEvent.TIMER_EXPIRED, score, 0);
+            endGame();
         }
 
+        events.dispatch();
+    }
+
+    /**
+     * Ends the game, updating the highscore and publishing GAME_OVER (the screen decides between victory and defeat).
+     * Called once, whether the slasher hit a ball or the timer ran out.
+     */
+    private void endGame() {
+        gameOver=true;
+        if (score > highscore)
+            highscore = score;
+        //updateScoreFile();
+        music.pause();
+        finalscore=score;
+        events.publish(GameEvent.GAME_OVER, score, highscore);
+    }
+
+    /**
+     *
+     * @return events published by this game. Consumers are added here.
+     */
+    public EventQueue getEvents() {
+        return events;
     }
 
     public static int getFinalscore() {
@@ -279,8 +291,9 @@ public class GameWorld {
     /**
      * Called when the Slasher can (and will) cut the GameArea.
      * Cuts the GameArea by recreating it and creating one more ball.
+     * @return number of balls captured.
      */
-    public void updateGameArea()
+    public int updateGameArea()
     {
         Vector2[] points = new Vector2[4];
         Vector2[] oldPoints = gameArea.getPoints();
@@ -311,7 +324,7 @@ public class GameWorld {
             redirecter=new Redirecter(gameArea.getPoints());
         score += counter;
 
-
+        return counter;
     }
 
     /**
@@ -327,6 +340,8 @@ public class GameWorld {
             if (pointInPolygon(pointsTriangle, balls.get(i))){
                 Gdx.app.log("bola esta fora", "bola esta fora");
                 Ball ball = balls.get(i);
+                Vector2 position = ball.getBody().getPosition();
+                events.publish(GameEvent.BALL_CAPTURED, Math.round(position.x), Math.round(position.y));
                 balls.remove(i);
                 ball.dispose();
                 counter++;
@@ -28,6 +28,10 @@ public class GameOverScreen extends Resizer implements Screen {
     private BitmapFont font;
     private SpriteBatch batch;
     private Sprite background;
+    /**
+     * Nothing moves here, so it is only drawn again on input.
+     */
+    private RenderPolicy renderPolicy = RenderPolicy.onDemand("GameOverScreen");
     private int score;
     private int highscore;
 
@@ -56,6 +60,7 @@ public class GameOverScreen extends Resizer implements Screen {
 
             @Override
             public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+                renderPolicy.requestRendering();
                 Vector2 finger = convertDimensions(new Vector2(screenX,screenY));
                 if(finger.y>180)
                 {
@@ -108,6 +113,7 @@ public class GameOverScreen extends Resizer implements Screen {
 
     @Override
     public void render(float delta) {
+        renderPolicy.beginFrame();
         cam.update();
 
         // Fill the entire screen with black, to prevent potential flickering.
@@ -128,17 +134,17 @@ public class GameOverScreen extends Resizer implements Screen {
 
 
         batch.end();
-
+        renderPolicy.endFrame();
     }
 
     @Override
     public void show() {
-
+        renderPolicy.show();
     }
 
     @Override
     public void resize(int width, int height) {
-
+        renderPolicy.requestRendering();
     }
 
     @Override
@@ -148,12 +154,12 @@ public class GameOverScreen extends Resizer implements Screen {
 
     @Override
     public void resume() {
-
+        renderPolicy.requestRendering();
     }
 
     @Override
     public void hide() {
-
+        renderPolicy.hide();
     }
 
     @Override
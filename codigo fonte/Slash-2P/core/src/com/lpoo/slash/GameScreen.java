@@ -12,6 +12,8 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.lpoo.gameworld.EventConsumer;
+import com.lpoo.gameworld.GameEvent;
 import com.lpoo.gameworld.GameRenderer;
 import com.lpoo.gameworld.GameWorld;
 import com.lpoo.slashhelpers.InputHandler;
@@ -26,19 +28,24 @@ import io.socket.client.IO;
 import io.socket.client.Socket;
 import io.socket.emitter.Emitter;
 
-public class GameScreen extends Resizer implements Screen {
+import static com.lpoo.slashhelpers.Utilities.changeScreen;
+
+public class GameScreen extends Resizer implements Screen, EventConsumer {
 
     private Game game; //to change Screens
     private GameWorld gameWorld;
     private GameRenderer renderer;
     private float runTime;
+    private RenderPolicy renderPolicy = RenderPolicy.continuous("GameScreen"); //the game moves every frame
+    /**
+     * Screen to change to once the current frame is drawn (set when the game is over).
+     */
+    private Screen nextScreen;
 
-    private  float timer;
     private Socket socket;
     private static boolean multiplayer = true;
     private static int score =0 ;
     private static int friendScore= 0;
-    private final float UPDATE_TIME = 1/60f;
     private HashMap<String, Integer> friendlyPlayers;
     private static boolean frindIsOnline = false;
 
@@ -48,6 +55,7 @@ public class GameScreen extends Resizer implements Screen {
                 ", screenHeight = " + height);
         this.game=game;
         gameWorld = new GameWorld(game);
+        gameWorld.getEvents().addConsumer(this);
 
         renderer = new GameRenderer(gameWorld,this);
         if(multiplayer){
@@ -57,17 +65,32 @@ public class GameScreen extends Resizer implements Screen {
         Gdx.input.setInputProcessor(new InputHandler(gameWorld, this));
     }
 
-    public void updateServer(float dt) {
-        timer += dt;
-        if (timer >= UPDATE_TIME) {
-            JSONObject data = new JSONObject();
-            try {
-                score = gameWorld.getScore();
-                data.put("score", gameWorld.getScore());
-                socket.emit("scoreUpdated", data);
-            } catch (JSONException e) {
-                Gdx.app.log("SockETIO", "ERROR UPDATING");
-            }
+    /**
+     * Sends the score to the other player. Only called when the score changes, instead of every frame.
+     * @param newScore current score.
+     */
+    public void updateServer(int newScore) {
+        score = newScore;
+        if(!multiplayer || socket==null)
+            return;
+        JSONObject data = new JSONObject();
+        try {
+            data.put("score", newScore);
+            socket.emit("scoreUpdated", data);
+        } catch (JSONException e) {
+            Gdx.app.log("SockETIO", "ERROR UPDATING");
+        }
+    }
+
+    @Override
+    public void onEvent(GameEvent event, int first, int second) {
+        if(event==GameEvent.SLASH_COMPLETED)
+            updateServer(second);
+        else if(event==GameEvent.GAME_OVER) {
+            updateServer(first);
+            if(victory())
+                nextScreen = new VictoryScreen(game, first);
+            else nextScreen = new GameOverScreen(game, first);
         }
     }
 
@@ -83,10 +106,13 @@ public class GameScreen extends Resizer implements Screen {
 
     @Override
     public void render(float delta) {
+        renderPolicy.beginFrame();
         runTime += delta;
         gameWorld.update(delta);
         renderer.render(runTime);
-        updateServer(delta);
+        renderPolicy.endFrame();
+        if(nextScreen != null)
+            changeScreen(game, nextScreen);
     }
     private void configSocketEvents() {
         Gdx.app.log("SocketIO", "Connected");
@@ -188,11 +214,13 @@ public class GameScreen extends Resizer implements Screen {
     @Override
     public void show() {
         System.out.println("GameScreen - show called");
+        renderPolicy.show();
     }
 
     @Override
     public void hide() {
         System.out.println("GameScreen - hide called");
+        renderPolicy.hide();
     }
 
     @Override
@@ -43,6 +43,10 @@ public class MenuScreen extends Resizer implements Screen {
      * Sprite with this Screen's backgroud.
      */
     private Sprite background;
+    /**
+     * Nothing moves here, so it is only drawn again on input.
+     */
+    private RenderPolicy renderPolicy = RenderPolicy.onDemand("MenuScreen");
 
     /**
      * Constructor.
@@ -70,6 +74,7 @@ public class MenuScreen extends Resizer implements Screen {
 
             @Override
             public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+                renderPolicy.requestRendering();
                 Vector2 finger = convertDimensions(new Vector2(screenX, screenY));
                 if (finger.y > 123 && finger.y < 168) {
                     if (finger.x > 25 && finger.x < 398)
@@ -119,6 +124,7 @@ public class MenuScreen extends Resizer implements Screen {
 
     @Override
     public void render(float delta) {
+        renderPolicy.beginFrame();
         cam.update();
 
         // Fill the entire screen with black, to prevent potential flickering.
@@ -133,16 +139,17 @@ public class MenuScreen extends Resizer implements Screen {
        // String highScore = " HIGHSCORE : "+ getHighscore();
         //font.draw(batch, highScore,175, 50);
         batch.end();
+        renderPolicy.endFrame();
     }
 
     @Override
     public void show() {
-
+        renderPolicy.show();
     }
 
     @Override
     public void resize(int width, int height) {
-
+        renderPolicy.requestRendering();
     }
 
     @Override
@@ -152,12 +159,12 @@ public class MenuScreen extends Resizer implements Screen {
 
     @Override
     public void resume() {
-
+        renderPolicy.requestRendering();
     }
 
     @Override
     public void hide() {
-
+        renderPolicy.hide();
     }
 
     @Override
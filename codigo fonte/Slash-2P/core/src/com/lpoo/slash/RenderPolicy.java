@@ -0,0 +1,174 @@
+package com.lpoo.slash;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.Timer;
+
+/**
+ * How often a Screen is drawn, and how often it actually was.
+ * CONTINUOUS screens (GameScreen) are drawn at the display's rate; ON_DEMAND screens (menus, game over) are only drawn
+ * when something changes (an input, or requestRendering()), since between touches they would draw the same image again;
+ * ANIMATED screens are drawn at their animation's own rate.
+ * While shown, it counts the frames drawn and the time spent drawing them (on the render thread), and logs the
+ * frames per second and the share of the time spent drawing when the screen is hidden.
+ */
+public class RenderPolicy {
+
+    /**
+     * When a screen is drawn.
+     */
+    public enum Mode {
+        CONTINUOUS, ON_DEMAND, ANIMATED
+    }
+
+    private final String screen;
+    private final Mode mode;
+    /**
+     * Seconds between the frames of an ANIMATED screen.
+     */
+    private final float frameDuration;
+    /**
+     * Asks for a frame every frameDuration, while an ANIMATED screen is shown.
+     */
+    private Timer.Task animationTask;
+
+    private long shownAt, frameStartedAt;
+    private long frames, renderNanos;
+
+    private RenderPolicy(String screen, Mode mode, float frameDuration) {
+        this.screen = screen;
+        this.mode = mode;
+        this.frameDuration = frameDuration;
+    }
+
+    /**
+     * @param screen name of the screen, for the log.
+     * @return a policy that draws every frame.
+     */
+    public static RenderPolicy continuous(String screen) {
+        return new RenderPolicy(screen, Mode.CONTINUOUS, 0);
+    }
+
+    /**
+     * @param screen name of the screen, for the log.
+     * @return a policy that draws only on input or requestRendering().
+     */
+    public static RenderPolicy onDemand(String screen) {
+        return new RenderPolicy(screen, Mode.ON_DEMAND, 0);
+    }
+
+    /**
+     * @param screen name of the screen, for the log.
+     * @param frameDuration seconds between the animation's frames.
+     * @return a policy that draws once per frame of the animation (and on input).
+     */
+    public static RenderPolicy animated(String screen, float frameDuration) {
+        return new RenderPolicy(screen, Mode.ANIMATED, frameDuration);
+    }
+
+    /**
+     * Applies the policy. To be called from the screen's show().
+     */
+    public void show() {
+        Gdx.graphics.setContinuousRendering(mode == Mode.CONTINUOUS);
+        if(mode == Mode.ANIMATED) {
+            animationTask = new Timer.Task() {
+                @Override
+                public void run() {
+                    Gdx.graphics.requestRendering();
+                }
+            };
+            Timer.schedule(animationTask, frameDuration, frameDuration);
+        }
+        Gdx.graphics.requestRendering(); //the first frame
+        startStats(System.nanoTime());
+    }
+
+    /**
+     * Stops asking for frames and logs the statistics. To be called from the screen's hide().
+     */
+    public void hide() {
+        if(animationTask != null) {
+            animationTask.cancel();
+            animationTask = null;
+        }
+        Gdx.app.log("RenderPolicy", report(System.nanoTime()));
+    }
+
+    /**
+     * Asks for a frame to be drawn (an ON_DEMAND screen whose image changed).
+     */
+    public void requestRendering() {
+        Gdx.graphics.requestRendering();
+    }
+
+    /**
+     * To be called at the start of the screen's render().
+     */
+    public void beginFrame() {
+        beginFrame(System.nanoTime());
+    }
+
+    /**
+     * To be called at the end of the screen's render().
+     */
+    public void endFrame() {
+        endFrame(System.nanoTime());
+    }
+
+    void startStats(long now) {
+        shownAt = now;
+        frames = 0;
+        renderNanos = 0;
+    }
+
+    void beginFrame(long now) {
+        frameStartedAt = now;
+    }
+
+    void endFrame(long now) {
+        frames++;
+        renderNanos += now - frameStartedAt;
+    }
+
+    /**
+     * @param now current time, in nanoseconds.
+     * @return frames drawn per second since the screen was shown.
+     */
+    float getFramesPerSecond(long now) {
+        return now > shownAt ? frames*1e9f/(now - shownAt) : 0;
+    }
+
+    /**
+     * @param now current time, in nanoseconds.
+     * @return share (from 0 to 1) of the time since the screen was shown spent drawing it.
+     */
+    float getRenderShare(long now) {
+        return now > shownAt ? (float)renderNanos/(now - shownAt) : 0;
+    }
+
+    /**
+     * @param now current time, in nanoseconds.
+     * @return frames, frames per second and time spent drawing since the screen was shown.
+     */
+    String report(long now) {
+        return screen + " (" + mode + "): " + frames + " frames in " + (now - shownAt)/1000000 + "ms, "
+                + getFramesPerSecond(now) + " fps, " + renderNanos/1000000 + "ms drawing ("
+                + 100*getRenderShare(now) + "% of the render thread)";
+    }
+
+    /**
+     *
+     * @return how the screen is drawn.
+     */
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     *
+     * @return frames drawn since the screen was shown.
+     */
+    public long getFrames() {
+        return frames;
+    }
+}
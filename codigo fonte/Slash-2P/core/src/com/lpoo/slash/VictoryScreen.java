@@ -13,6 +13,7 @@ import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
 import com.lpoo.gameworld.GameWorld;
+import com.lpoo.slashhelpers.HudField;
 import com.lpoo.slashhelpers.Utilities;
 
 
@@ -26,8 +27,16 @@ public class VictoryScreen extends Resizer implements Screen {
     private BitmapFont font;
     private SpriteBatch batch;
     private Sprite background;
+    /**
+     * Nothing moves here, so it is only drawn again on input.
+     */
+    private RenderPolicy renderPolicy = RenderPolicy.onDemand("VictoryScreen");
     private int score;
     private int highscore;
+    /**
+     * Score text, built once.
+     */
+    private HudField scoreText = new HudField("SCORE: ");
 
     public VictoryScreen(Game game, int currentScore)
     {
@@ -41,6 +50,7 @@ public class VictoryScreen extends Resizer implements Screen {
         background=new Sprite(new Texture("victory.png"));
         score=currentScore;
         highscore=GameWorld.readScoreFile();
+        scoreText.set(score);
         implementTouchDetector();
     }
 
@@ -54,6 +64,7 @@ public class VictoryScreen extends Resizer implements Screen {
 
             @Override
             public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+                renderPolicy.requestRendering();
                 Vector2 finger = convertDimensions(new Vector2(screenX,screenY));
                 if(finger.y>180)
                 {
@@ -106,6 +117,7 @@ public class VictoryScreen extends Resizer implements Screen {
 
     @Override
     public void render(float delta) {
+        renderPolicy.beginFrame();
         cam.update();
 
         // Fill the entire screen with black, to prevent potential flickering.
@@ -118,25 +130,24 @@ public class VictoryScreen extends Resizer implements Screen {
         batch.draw(background, 0, 0, width, height);
         font.setColor(Color.YELLOW);
        // String newHighscoreText = "NEW HIGHSCORE !! "+ highscore;
-        String scoreText = "SCORE: "+score;
        // String highscoreText = "HIGHSCORE: "+highscore;
 
 
-            font.draw(batch, scoreText, 150, 150);
+            scoreText.draw(font, batch, 150, 150);
 
 
         batch.end();
-
+        renderPolicy.endFrame();
     }
 
     @Override
     public void show() {
-
+        renderPolicy.show();
     }
 
     @Override
     public void resize(int width, int height) {
-
+        renderPolicy.requestRendering();
     }
 
     @Override
@@ -146,12 +157,12 @@ public class VictoryScreen extends Resizer implements Screen {
 
     @Override
     public void resume() {
-
+        renderPolicy.requestRendering();
     }
 
     @Override
     public void hide() {
-
+        renderPolicy.hide();
     }
 
     @Override
@@ -1,6 +1,9 @@
 package com.lpoo.slash;
 
+import android.content.Context;
+import android.os.Build;
 import android.os.Bundle;
+import android.os.PowerManager;
 
 import com.badlogic.gdx.backends.android.AndroidApplication;
 import com.badlogic.gdx.backends.android.AndroidApplicationConfiguration;
@@ -11,6 +14,9 @@ public class AndroidLauncher extends AndroidApplication {
 	protected void onCreate (Bundle savedInstanceState) {
 		super.onCreate(savedInstanceState);
 		AndroidApplicationConfiguration config = new AndroidApplicationConfiguration();
-		initialize(new Slash(getFilesDir()), config);
+		//physics at a lower rate when the battery saver is on
+		boolean lowPower = Build.VERSION.SDK_INT >= Build.VERSION_CODES.LOLLIPOP
+				&& ((PowerManager)getSystemService(Context.POWER_SERVICE)).isPowerSaveMode();
+		initialize(new Slash(getFilesDir(), lowPower), config);
 	}
 }
@@ -0,0 +1,63 @@
+package com.lpoo.gameobjects;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.gameworld.GameWorld;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GameArea constructor, run on every slash: wall bodies creation and, for small areas, resize().
+ * Each operation also disposes the new GameArea (so the World does not grow) and copies the 4 vertices,
+ * because the constructor changes them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameAreaBenchmark {
+
+    private GameWorld gameWorld;
+    private Vector2[] large, small;
+
+    @Setup
+    public void setUp() {
+        large = new Vector2[]{new Vector2(30, 20), new Vector2(20, 170), new Vector2(230, 160), new Vector2(220, 20)};
+        small = new Vector2[]{new Vector2(100, 80), new Vector2(90, 130), new Vector2(160, 120), new Vector2(150, 70)};
+        gameWorld = new GameWorld(large[0].cpy(), large[1].cpy(), large[2].cpy(), large[3].cpy(), new Vector2());
+    }
+
+    @TearDown
+    public void tearDown() {
+        gameWorld.dispose();
+    }
+
+    private GameArea construct(Vector2[] pts) {
+        GameArea gameArea = new GameArea(pts[0].cpy(), pts[1].cpy(), pts[2].cpy(), pts[3].cpy(), gameWorld);
+        gameArea.dispose();
+        return gameArea;
+    }
+
+    @Benchmark
+    public GameArea construct() {
+        return construct(large);
+    }
+
+    @Benchmark
+    public GameArea constructWithResize() {
+        return construct(small);
+    }
+}
@@ -0,0 +1,74 @@
+package com.lpoo.gameobjects;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.gameworld.GameWorld;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a slash that makes the gameArea too small (GameArea::replacePoint with resize), over random small quads,
+ * some of them degenerate (corners on the same line or almost at the same place).
+ * Sampled, so that the worst cases (the percentiles and the maximum) are reported and not only the average.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResizeBenchmark {
+
+    private static final int QUADS = 1024;
+
+    private GameWorld gameWorld;
+    private GameArea gameArea;
+    private float[] quads = new float[QUADS*8];
+    private int quad;
+
+    @Setup
+    public void setUp() {
+        gameWorld = new GameWorld(new Vector2(30, 20), new Vector2(20, 170), new Vector2(230, 160), new Vector2(220, 20), new Vector2());
+        gameArea = gameWorld.getGameArea();
+        Random random = new Random(11);
+        for(int q=0; q<QUADS; q++)
+        {
+            //each corner in its quadrant, close to the center; every 8th has its corners almost on a line
+            float spread = q%8 == 0 ? 0.01f : 1 + 40*random.nextFloat();
+            float[] signX = {-1, -1, 1, 1}, signY = {-1, 1, 1, -1};
+            for(int i=0; i<4; i++)
+            {
+                quads[8*q+2*i] = GameArea.center.x + signX[i]*(1 + 30*random.nextFloat());
+                quads[8*q+2*i+1] = GameArea.center.y + signY[i]*spread*random.nextFloat();
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        gameWorld.dispose();
+    }
+
+    @Benchmark
+    public GameArea resize() {
+        int q = quad++ % QUADS;
+        Vector2[] points = gameArea.getPoints();
+        //the points are set in place; replacing one of them (with itself) runs resize
+        for(int i=0; i<4; i++)
+            points[i].set(quads[8*q+2*i], quads[8*q+2*i+1]);
+        gameArea.replacePoint(points[3], points[3]);
+        return gameArea;
+    }
+}
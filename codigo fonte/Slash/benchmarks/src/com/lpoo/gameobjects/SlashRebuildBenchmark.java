@@ -0,0 +1,77 @@
+package com.lpoo.gameobjects;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.gameworld.GameWorld;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rebuilding the GameArea after a slash, with more or fewer balls in the World:
+ * recreating it (dispose + constructor, as GameWorld::updateGameArea used to) against GameArea::replacePoint,
+ * which only updates the 2 edges touching the moved corner.
+ * Each operation moves one corner back and forth between two positions, so the World does not change between operations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlashRebuildBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int balls;
+
+    private GameWorld gameWorld;
+    private GameArea gameArea;
+    private Vector2[] points;
+    private Vector2 cornerA, cornerB;
+
+    @Setup
+    public void setUp() {
+        gameWorld = new GameWorld(new Vector2(30, 20), new Vector2(20, 170), new Vector2(230, 160), new Vector2(220, 20), new Vector2());
+        for(int i=1; i<balls; i++)
+            gameWorld.getBalls().add(gameWorld.getBallPool().obtain(60 + i%120, 40 + (i/120)%110));
+        gameArea = gameWorld.getGameArea();
+        points = gameArea.getPoints();
+        cornerA = new Vector2(230, 160);
+        cornerB = new Vector2(210, 150);
+    }
+
+    @TearDown
+    public void tearDown() {
+        gameWorld.dispose();
+    }
+
+    private Vector2 nextCorner() {
+        return points[2].x == cornerA.x ? cornerB.cpy() : cornerA.cpy();
+    }
+
+    @Benchmark
+    public GameArea recreate() {
+        Vector2 corner = nextCorner();
+        gameArea.dispose();
+        gameArea = new GameArea(points[0], points[1], corner, points[3], gameWorld);
+        points = gameArea.getPoints();
+        return gameArea;
+    }
+
+    @Benchmark
+    public GameArea replacePoint() {
+        gameArea.replacePoint(points[2], nextCorner());
+        return gameArea;
+    }
+}
@@ -0,0 +1,76 @@
+package com.lpoo.gameobjects;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.gameworld.GameWorld;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Slasher::setFinger, run on every drag event, and Slasher::checkCollisions, run on every step of a slash.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlasherBenchmark {
+
+    /**
+     * Number of balls in the GameArea.
+     */
+    @Param({"1", "10", "100"})
+    public int balls;
+
+    private GameWorld idle, slashing;
+    private Vector2 finger;
+
+    @Setup
+    public void setUp() {
+        idle = createGameWorld();
+        slashing = createGameWorld();
+        finger = new Vector2(100, 100);
+
+        //balls away from the slash, so checkCollisions goes through all of them
+        for(int i = 1; i < balls; i++)
+            slashing.getBalls().add(new Ball(60 + (i % 10) * 15, 30 + (i / 10 % 10) * 3, slashing.getWorld()));
+        slashing.getSnapshot().capture(slashing.getBalls());
+        slashing.getSlasher().setFinger(finger);
+        slashing.startSlashMovement();
+    }
+
+    private static GameWorld createGameWorld() {
+        Vector2 pt1 = new Vector2(20, 20), pt2 = new Vector2(30, 175), pt3 = new Vector2(235, 175), pt4 = new Vector2(225, 20);
+        return new GameWorld(pt1, pt2, pt3, pt4, pt2);
+    }
+
+    @TearDown
+    public void tearDown() {
+        idle.dispose();
+        slashing.dispose();
+    }
+
+    @Benchmark
+    public Vector2 setFinger() {
+        idle.getSlasher().setFinger(finger);
+        return idle.getSlasher().getFinger();
+    }
+
+    @Benchmark
+    public Slasher.Status checkCollisions() {
+        return slashing.getSlasher().checkCollisions();
+    }
+}
@@ -0,0 +1,54 @@
+package com.lpoo.gameworld;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One physics step (PhysicsBackend::step) of the default gameArea with more or fewer balls, with each backend.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhysicsBackendBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int balls;
+
+    @Param({"BOX2D", "ARRAYS"})
+    public PhysicsBackend.Kind physics;
+
+    private GameWorld gameWorld;
+
+    @Setup
+    public void setUp() {
+        gameWorld = new GameWorld(0, Difficulty.DEFAULT, 1, physics);
+        for(int i=1; i<balls; i++)
+            gameWorld.getBalls().add(gameWorld.getBallPool().obtain(60 + i%120, 50 + (i/120)%90));
+    }
+
+    @TearDown
+    public void tearDown() {
+        gameWorld.dispose();
+    }
+
+    @Benchmark
+    public GameWorld step() {
+        gameWorld.getPhysics().step(gameWorld.getStepTime());
+        return gameWorld;
+    }
+}
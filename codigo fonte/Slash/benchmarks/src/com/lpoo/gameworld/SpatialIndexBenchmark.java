@@ -0,0 +1,116 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.gameobjects.Ball;
+import com.lpoo.slashhelpers.Utilities;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The per-step proximity checks (slasher's collision and a slash's captures) over every ball of the snapshot,
+ * against the same checks over the candidates of the SpatialIndex, counting the cost of rebuilding it,
+ * and the captures as one CaptureMask pass over every ball (what GameWorld::checkBalls does).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SpatialIndexBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int balls;
+
+    private GameWorld gameWorld;
+    private BallSnapshot snapshot;
+    private SpatialIndex spatialIndex;
+    private float reach;
+    private Vector2[] triangle;
+    private CaptureMask captureMask = new CaptureMask();
+
+    @Setup
+    public void setUp() {
+        gameWorld = new GameWorld(0, Difficulty.DEFAULT, 1, PhysicsBackend.Kind.ARRAYS);
+        for(int i=1; i<balls; i++)
+            gameWorld.getBalls().add(gameWorld.getBallPool().obtain(25 + i%200, 25 + (i/200)%150));
+        snapshot = gameWorld.getSnapshot();
+        spatialIndex = gameWorld.getSpatialIndex();
+        snapshot.capture(gameWorld.getBalls());
+        reach = 2.8f*Ball.getRadius();
+        triangle = new Vector2[]{new Vector2(30, 30), new Vector2(30, 70), new Vector2(70, 30)};
+        captureMask.setTriangle(triangle[0], triangle[1], triangle[2]);
+    }
+
+    @TearDown
+    public void tearDown() {
+        gameWorld.dispose();
+    }
+
+    @Benchmark
+    public int slasherLinear() {
+        snapshot.capture(gameWorld.getBalls());
+        int hits = 0;
+        for(int i=0; i<snapshot.size(); i++)
+            if(Utilities.distance(snapshot.getX(i), snapshot.getY(i), 125, 100) < reach)
+                hits++;
+        return hits;
+    }
+
+    @Benchmark
+    public int slasherIndexed() {
+        snapshot.capture(gameWorld.getBalls());
+        int hits = 0;
+        int candidates = spatialIndex.queryCircle(125, 100, reach);
+        for(int k=0; k<candidates; k++)
+        {
+            int i = spatialIndex.getResult(k);
+            if(Utilities.distance(snapshot.getX(i), snapshot.getY(i), 125, 100) < reach)
+                hits++;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public int capturesLinear() {
+        snapshot.capture(gameWorld.getBalls());
+        int captured = 0;
+        for(int i=0; i<snapshot.size(); i++)
+            if(Utilities.pointInPolygon(triangle, snapshot.getX(i), snapshot.getY(i)))
+                captured++;
+        return captured;
+    }
+
+    @Benchmark
+    public int capturesIndexed() {
+        snapshot.capture(gameWorld.getBalls());
+        int captured = 0;
+        int candidates = spatialIndex.queryPolygon(triangle);
+        for(int k=0; k<candidates; k++)
+        {
+            int i = spatialIndex.getResult(k);
+            if(Utilities.pointInPolygon(triangle, snapshot.getX(i), snapshot.getY(i)))
+                captured++;
+        }
+        return captured;
+    }
+
+    @Benchmark
+    public int capturesMask() {
+        snapshot.capture(gameWorld.getBalls());
+        return captureMask.capture(snapshot);
+    }
+}
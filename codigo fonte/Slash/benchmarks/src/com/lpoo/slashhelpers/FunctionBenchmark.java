@@ -0,0 +1,52 @@
+package com.lpoo.slashhelpers;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Function construction and intersection, used by Slasher, GameArea and Utilities on every drag, step and slash.
+ */
+@SuppressWarnings("deprecation") //measures Function, kept as the reference for Line and Geometry
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FunctionBenchmark {
+
+    private Vector2 p1, p2, p3, p4;
+    private Function f1, f2;
+
+    @Setup
+    public void setUp() {
+        p1 = new Vector2(30, 20);
+        p2 = new Vector2(230, 160);
+        p3 = new Vector2(20, 170);
+        p4 = new Vector2(220, 20);
+        f1 = new Function(p1, p2);
+        f2 = new Function(p3, p4);
+    }
+
+    @Benchmark
+    public Function construct() {
+        return new Function(p1, p2);
+    }
+
+    @Benchmark
+    public Vector2 intersect() {
+        return f1.intersect(f2);
+    }
+}
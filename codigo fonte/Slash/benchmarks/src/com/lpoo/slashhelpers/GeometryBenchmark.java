@@ -0,0 +1,63 @@
+package com.lpoo.slashhelpers;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Line and Geometry on the same points as FunctionBenchmark, to compare with the Function code they replaced.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeometryBenchmark {
+
+    private Vector2 p1, p2, p3, p4;
+    private Line l1, l2;
+    private Vector2 out = new Vector2();
+
+    @Setup
+    public void setUp() {
+        p1 = new Vector2(30, 20);
+        p2 = new Vector2(230, 160);
+        p3 = new Vector2(20, 170);
+        p4 = new Vector2(220, 20);
+        l1 = new Line(p1.x, p1.y, p2.x, p2.y);
+        l2 = new Line(p3.x, p3.y, p4.x, p4.y);
+    }
+
+    @Benchmark
+    public Line set() {
+        return l1.set(p1.x, p1.y, p2.x, p2.y);
+    }
+
+    @Benchmark
+    public Vector2 intersect() {
+        l2.intersect(l1, out);
+        return out;
+    }
+
+    @Benchmark
+    public boolean segmentIntersection() {
+        return Geometry.segmentIntersection(p1.x, p1.y, p2.x, p2.y, p3.x, p3.y, p4.x, p4.y, out);
+    }
+
+    @Benchmark
+    public float raySegmentIntersection() {
+        return Geometry.raySegmentIntersection(p1.x, p1.y, p2.x-p1.x, p2.y-p1.y, p3.x, p3.y, p4.x, p4.y, out);
+    }
+}
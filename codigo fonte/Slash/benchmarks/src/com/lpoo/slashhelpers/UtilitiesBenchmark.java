@@ -0,0 +1,74 @@
+package com.lpoo.slashhelpers;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.lpoo.gameobjects.Ball;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geometry helpers: ball capture test done per ball on every slash, circle intersection (used by
+ * GameArea::resize before it scaled the points in closed form) and the distance used per ball on every step.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilitiesBenchmark {
+
+    private World world;
+    private Vector2[] triangle;
+    private Ball inside, outside;
+    private Vector2 a, b, center;
+
+    @Setup
+    public void setUp() {
+        world = new World(new Vector2(0, 0), false);
+        triangle = new Vector2[]{new Vector2(20, 20), new Vector2(30, 175), new Vector2(120, 90)};
+        inside = new Ball(50, 90, world);
+        outside = new Ball(200, 100, world);
+        a = new Vector2(200, 140);
+        b = new Vector2(125, 100);
+        center = new Vector2(50, 50);
+    }
+
+    @TearDown
+    public void tearDown() {
+        world.dispose();
+    }
+
+    @Benchmark
+    public boolean pointInPolygonInside() {
+        return Utilities.pointInPolygon(triangle, inside);
+    }
+
+    @Benchmark
+    public boolean pointInPolygonOutside() {
+        return Utilities.pointInPolygon(triangle, outside);
+    }
+
+    @Benchmark
+    public List<Vector2> getCircleLineIntersectionPoint() {
+        return Utilities.getCircleLineIntersectionPoint(a, b, center, 10);
+    }
+
+    @Benchmark
+    public double distance() {
+        return Utilities.distance(a, b);
+    }
+}
@@ -2,12 +2,10 @@ package com.lpoo.gameobjects;
 
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.Body;
-import com.badlogic.gdx.physics.box2d.BodyDef;
-import com.badlogic.gdx.physics.box2d.FixtureDef;
-import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.badlogic.gdx.physics.box2d.World;
-
-import java.util.Random;
+import com.lpoo.gameworld.Box2dBackend;
+import com.lpoo.gameworld.PhysicsBackend;
+import com.lpoo.slashhelpers.RandomStream;
 
 /**
  * Created by Diogo on 26-04-2016.
@@ -16,17 +14,37 @@ import java.util.Random;
  */
 public class Ball {
     /**
-     * Ball's body on World.
+     * Moves this ball.
+     */
+    private PhysicsBackend physics;
+    /**
+     * Ball's id on the PhysicsBackend.
      */
-    private Body body;
+    private int id;
     /**
      * Ball's radius.
      */
     private final static float radius = 2.5f;
     /**
-     * Ball's starting velocity.
+     * Ball's velocity when none is given.
+     */
+    public final static float defaultVelocity = 25;
+    /**
+     * Ball's velocity.
+     */
+    private float velocity;
+    /**
+     * Reused by getPosition.
+     */
+    private Vector2 position;
+    /**
+     * Reused by getLinearVelocity.
+     */
+    private Vector2 linearVelocity;
+    /**
+     * Gives the random directions of this ball.
      */
-    private final static float velocity = 25;
+    private RandomStream random;
 
     /**
      * Constructor.
@@ -35,35 +53,57 @@ public class Ball {
      * @param world World in which this ball was created.
      */
     public Ball(float xPos, float yPos, World world) {
-        //criar body
-        BodyDef bodyDef = new BodyDef();
-        bodyDef.type = BodyDef.BodyType.DynamicBody; //é dinamico (sofre acao de forcas)
-        bodyDef.position.set(new Vector2(xPos, yPos));
-        body = world.createBody(bodyDef);
+        this(xPos, yPos, new Box2dBackend(world), defaultVelocity, new RandomStream());
+    }
 
-        //criar forma de caixa...
-        PolygonShape dynamicBox = new PolygonShape();
-        dynamicBox.setAsBox(radius,radius);
-        //...e criar uma fixture atraves dessa forma
-        FixtureDef fixtureDef = new FixtureDef();
-        fixtureDef.shape = dynamicBox;
-        fixtureDef.density = 1.0f;
-        fixtureDef.friction = 0.0f;
-        fixtureDef.restitution=1.0f;
-        body.createFixture(fixtureDef);
+    /**
+     * Constructor.
+     * @param xPos x component of the ball's position.
+     * @param yPos y component of the ball's position.
+     * @param physics backend moving the ball.
+     * @param velocity ball's velocity.
+     * @param random gives the random directions of this ball.
+     */
+    public Ball(float xPos, float yPos, PhysicsBackend physics, float velocity, RandomStream random) {
+        this.physics = physics;
+        this.velocity = velocity;
+        this.random = random;
+        id = physics.createBall(xPos, yPos, radius);
+        position = new Vector2(xPos, yPos);
+        linearVelocity = new Vector2();
         setRandomMovement();
 
     }
 
+    /**
+     * Puts a deactivated ball back in the World, in a new position and moving in a new random direction.
+     * @param xPos x component of the ball's position.
+     * @param yPos y component of the ball's position.
+     */
+    void activate(float xPos, float yPos)
+    {
+        physics.setBallPosition(id, xPos, yPos);
+        physics.setBallActive(id, true);
+        setRandomMovement();
+    }
+
+    /**
+     * Takes the ball out of the World without destroying it, so it can be reused.
+     */
+    void deactivate()
+    {
+        physics.setBallVelocity(id, 0, 0);
+        physics.setBallActive(id, false);
+    }
+
     /**
      * Will set the ball with a linearVelocity of 'velocity' in a random direction
      */
     protected void setRandomMovement()
     {
-        Random rand = new Random();
-        double rad = 2*Math.PI*rand.nextFloat();
+        double rad = 2*Math.PI*random.nextFloat();
         float x=(float)Math.cos(rad), y=(float)Math.sin(rad);
-        body.setLinearVelocity(velocity*x,velocity*y);
+        physics.setBallVelocity(id, velocity*x, velocity*y);
     }
 
     /**
@@ -74,15 +114,39 @@ public class Ball {
 
     /**
      *
-     * @return ball's Body.
+     * @return ball's Body, or null if the balls of this game are not moved by Box2D.
      */
-    public Body getBody() {return body;}
+    public Body getBody() {
+        return physics instanceof Box2dBackend ? ((Box2dBackend)physics).getBody(id) : null;
+    }
+
+    /**
+     *
+     * @return ball's id on its PhysicsBackend.
+     */
+    public int getId() {return id;}
+
+    /**
+     * Reads the ball's position from its PhysicsBackend. During a game, read GameWorld::getSnapshot instead.
+     * @return ball's current position. The same vector is reused on every call.
+     */
+    public Vector2 getPosition() {
+        return physics.getBallPosition(id, position);
+    }
+
+    /**
+     * Reads the ball's velocity from its PhysicsBackend. During a game, read GameWorld::getSnapshot instead.
+     * @return ball's current velocity. The same vector is reused on every call.
+     */
+    public Vector2 getLinearVelocity() {
+        return physics.getBallVelocity(id, linearVelocity);
+    }
 
     /**
-     * Destroys this ball's body on the World.
+     * Destroys this ball on its PhysicsBackend.
      */
     public void dispose()
     {
-        body.getWorld().destroyBody(body);
+        physics.destroyBall(id);
     }
 }
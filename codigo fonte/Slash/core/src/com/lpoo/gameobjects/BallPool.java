@@ -0,0 +1,128 @@
+package com.lpoo.gameobjects;
+
+import com.badlogic.gdx.physics.box2d.World;
+import com.lpoo.gameworld.Box2dBackend;
+import com.lpoo.gameworld.PhysicsBackend;
+import com.lpoo.slashhelpers.RandomStream;
+
+import java.util.ArrayList;
+
+/**
+ * Keeps the balls captured by slashes, with their bodies deactivated, so that new balls reuse them
+ * instead of creating and destroying Box2D bodies (each a native allocation and several JNI calls).
+ * Design Pattern: Object Pool
+ */
+public class BallPool {
+
+    private PhysicsBackend physics;
+    private float velocity;
+    private RandomStream random;
+    /**
+     * Balls not in use, with their bodies deactivated.
+     */
+    private ArrayList<Ball> free;
+    /**
+     * Balls obtained by reusing a free one.
+     */
+    private int hits = 0;
+    /**
+     * Balls obtained by creating a new one, because none was free.
+     */
+    private int misses = 0;
+
+    /**
+     * Constructor.
+     * @param world World where the balls are created.
+     * @param velocity velocity of the balls.
+     * @param random gives the random directions of the balls.
+     */
+    public BallPool(World world, float velocity, RandomStream random) {
+        this(new Box2dBackend(world), velocity, random);
+    }
+
+    /**
+     * Constructor.
+     * @param physics backend where the balls are created.
+     * @param velocity velocity of the balls.
+     * @param random gives the random directions of the balls.
+     */
+    public BallPool(PhysicsBackend physics, float velocity, RandomStream random) {
+        this.physics = physics;
+        this.velocity = velocity;
+        this.random = random;
+        free = new ArrayList<Ball>();
+    }
+
+    /**
+     * Creates balls in advance, so that the first ones obtained need no new body.
+     * @param n number of balls to create.
+     */
+    public void prewarm(int n) {
+        free.ensureCapacity(free.size()+n);
+        for(int i=0; i<n; i++)
+        {
+            Ball ball = new Ball(0, 0, physics, velocity, random);
+            ball.deactivate();
+            free.add(ball);
+        }
+    }
+
+    /**
+     * Gives a ball moving in a random direction, reusing a free one if there is any.
+     * @param x x component of the ball's position.
+     * @param y y component of the ball's position.
+     * @return ball.
+     */
+    public Ball obtain(float x, float y) {
+        if(free.isEmpty()) {
+            misses++;
+            return new Ball(x, y, physics, velocity, random);
+        }
+        hits++;
+        Ball ball = free.remove(free.size()-1);
+        ball.activate(x, y);
+        return ball;
+    }
+
+    /**
+     * Deactivates a ball no longer in use and keeps it to be reused.
+     * @param ball ball to free.
+     */
+    public void free(Ball ball) {
+        ball.deactivate();
+        free.add(ball);
+    }
+
+    /**
+     *
+     * @return number of balls obtained by reusing a free one.
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     *
+     * @return number of balls obtained by creating a new one.
+     */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     *
+     * @return number of balls not in use.
+     */
+    public int getFreeCount() {
+        return free.size();
+    }
+
+    /**
+     * Destroys the bodies of all free balls.
+     */
+    public void dispose() {
+        for(int i=0; i<free.size(); i++)
+            free.get(i).dispose();
+        free.clear();
+    }
+}
@@ -5,12 +5,9 @@ import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
 import com.lpoo.gameworld.GameWorld;
-import com.lpoo.slashhelpers.Function;
+import com.lpoo.slashhelpers.Geometry;
 import com.lpoo.slashhelpers.Utilities;
 
-import java.util.Arrays;
-import java.util.List;
-
 
 /**
  * The GameArea is the "box" that contains all the balls within, and which slasher will attempt to cut.
@@ -33,6 +30,10 @@ public class GameArea {
      * The four points that make this gameArea.
      */
     private Vector2[] points;
+    /**
+     * Values derived from points, made again whenever they change.
+     */
+    private GameAreaGeometry geometry;
     /**
      * gameArea point that will be deleted due to a slash.
      */
@@ -42,9 +43,41 @@ public class GameArea {
      */
     public static final Vector2 center = new Vector2(125,100);
     /**
-     * Bodies of the 4 edges of the gameArea.
+     * Bodies of the 4 edges of the gameArea. Edge i goes from points[i] to points[i+1].
      */
     private Body[] bodies;
+    /**
+     * Shapes of the 4 edges' fixtures, resized in place when an edge changes.
+     */
+    private PolygonShape[] shapes;
+    /**
+     * Coordinates (ax, ay, bx, by) of each edge when its body was last updated, to know which edges changed.
+     */
+    private float[] edges;
+    /**
+     * Number of edge bodies updated since the gameArea was created.
+     */
+    private int edgeUpdates;
+    /**
+     * Reused to compute the center of an edge.
+     */
+    private Vector2 midPoint;
+    /**
+     * Reused by resize for the point the gameArea is scaled about.
+     */
+    private Vector2 pivot;
+    /**
+     * A gameArea smaller than MIN_AREA is grown to RESIZED_AREA by resize.
+     */
+    public static final float MIN_AREA = 10000, RESIZED_AREA = 18000;
+    /**
+     * Most times resize scales the points (more than once only when checkBounds clamps them).
+     */
+    private static final int MAX_RESIZE_PASSES = 8;
+    /**
+     * Largest scale of one resize pass, for gameAreas with (almost) no area.
+     */
+    private static final float MAX_RESIZE_SCALE = 10;
     /**
      * GameWorld containing all the gameobjects.
      */
@@ -54,6 +87,10 @@ public class GameArea {
     {
         toDelete=null;
         bodies = new Body[4];
+        shapes = new PolygonShape[4];
+        edges = new float[16];
+        midPoint = new Vector2();
+        pivot = new Vector2();
         points = new Vector2[4];
         points[0]=p1;
         points[1]=p2;
@@ -62,41 +99,115 @@ public class GameArea {
         this.gameWorld=gameWorld;
         //checkAndCorrect();
 
-        float area =polygonArea();
-        System.out.println("GameArea::GameArea() - GameArea has vertices: p1="+points[0]+", p2="+points[1]+", p3="+points[2]+", p4="+points[3]+"area= "+area);
-
         resize();
 
         Utilities.checkBounds(points);
+        geometry = new GameAreaGeometry(points);
 
 
         for(int i=0; i<4; i++) {
-            Vector2 a,b;
-            a=points[i];
-            b=points[i==3 ? 0 : i+1];
-
-            double distancePTP = Utilities.distance(a,b);
-            Vector2 midPoint = new Vector2((a.x+b.x)/2, (a.y+b.y)/2);
-            double angle = Math.atan((a.y-b.y)/(a.x-b.x));
-
             BodyDef bodyDef = new BodyDef();
             bodyDef.type = BodyDef.BodyType.StaticBody;
-            bodyDef.position.set(midPoint.x, midPoint.y);
             Body groundBody = gameWorld.getWorld().createBody(bodyDef);
             PolygonShape groundBox = new PolygonShape();
-            groundBox.setAsBox((float)distancePTP/2, 1);
-            groundBody.setTransform(midPoint,(float)angle);
-            groundBody.createFixture(groundBox, 0);
+            groundBox.setAsBox(1, 1); //real size set by updateEdge
+            shapes[i] = (PolygonShape)groundBody.createFixture(groundBox, 0).getShape();
+            groundBox.dispose();
             bodies[i]=groundBody;
+            updateEdge(i);
         }
     }
 
+    /**
+     * Replaces a corner after a slash, keeping the edge bodies: only the edges whose ends moved
+     * (the 2 touching the new corner, plus any moved by resize) are updated, in place.
+     * @param oldPoint corner to replace (usually toDelete).
+     * @param newPoint new corner.
+     */
+    public void replacePoint(Vector2 oldPoint, Vector2 newPoint)
+    {
+        for(int i=0; i<4; i++)
+            if(points[i]==oldPoint)
+                points[i]=newPoint;
+        toDelete=null;
+
+        resize();
+
+        Utilities.checkBounds(points);
+        geometry = new GameAreaGeometry(points);
+
+        for(int i=0; i<4; i++)
+            if(edgeMoved(i))
+                updateEdge(i);
+    }
+
+    /**
+     * @param i edge index.
+     * @return true if the edge's ends are not where they were when its body was last updated.
+     */
+    private boolean edgeMoved(int i)
+    {
+        Vector2 a=points[i], b=points[i==3 ? 0 : i+1];
+        return edges[4*i]!=a.x || edges[4*i+1]!=a.y || edges[4*i+2]!=b.x || edges[4*i+3]!=b.y;
+    }
+
+    /**
+     * Resizes and moves an edge's box so that it goes from points[i] to points[i+1].
+     * The box is changed in place and setTransform makes Box2D update its bounds.
+     * @param i edge index.
+     */
+    private void updateEdge(int i)
+    {
+        Vector2 a,b;
+        a=points[i];
+        b=points[i==3 ? 0 : i+1];
+
+        double distancePTP = Utilities.distance(a,b);
+        midPoint.set((a.x+b.x)/2, (a.y+b.y)/2);
+        double angle = Math.atan((a.y-b.y)/(a.x-b.x));
+
+        shapes[i].setAsBox((float)distancePTP/2, 1);
+        bodies[i].setTransform(midPoint,(float)angle);
+
+        edges[4*i]=a.x;
+        edges[4*i+1]=a.y;
+        edges[4*i+2]=b.x;
+        edges[4*i+3]=b.y;
+        edgeUpdates++;
+    }
+
+    /**
+     *
+     * @return number of edge bodies updated since the gameArea was created (4 when created).
+     */
+    public int getEdgeUpdates() {
+        return edgeUpdates;
+    }
+
     /**
      *
      * @return points.
      */
     public Vector2[] getPoints() {return points;}
 
+    /**
+     *
+     * @return edges, center, bounds and other values derived from the current points.
+     */
+    public GameAreaGeometry getGeometry() {return geometry;}
+
+    /**
+     * @param point one of the gameArea's points (compared by reference).
+     * @return index of the point in getPoints, or -1 if it is not one of them.
+     */
+    public int indexOf(Vector2 point)
+    {
+        for(int i=0; i<4; i++)
+            if(points[i]==point)
+                return i;
+        return -1;
+    }
+
     /**
      *
      * @param toDelete corner to delete after gameArea has been fully slashed
@@ -141,45 +252,37 @@ public class GameArea {
 
     /**
      * Resizes the gameArea in case its dimensions are too small.
+     * The points are scaled about the diagonals' intersection straight to RESIZED_AREA and clamped by checkBounds;
+     * when clamping takes some of the area away this is done again, at most MAX_RESIZE_PASSES times.
+     * The points are moved in place, so the slasher (which shares its corner's vector) moves with them.
      * @return true if dimensions were resized, false if resizing was not needed.
      */
     private boolean resize()
     {
-        List<Vector2> x = Arrays.asList(null,null);
-        int k= 0;
-        if (polygonArea()<10000){
-            int i = 0;
-            Vector2 center = new Vector2(0,0) ;
-            while(polygonArea()<18000) {
-
-                Function y = new Function(points[i % 4], points[(i + 2) % 4]);
-                Function y1 = new Function(points[(i + 1) % 4], points[(i + 3) % 4]);
-                Vector2 center1 = y.intersect(y1);
-                //   }p
-                System.out.println("GameWorld::getcircle pointA:"+ points[i % 4] + " p0" + points[(i+1) % 4] + " p1" + points[(i+1) % 4] + " p2 " + points[(i+2) % 4]+ " p3"+  points[(i+3) % 4]);
-                if(center1 != null){
-                    center = center1;
-                }
-
-                x = Utilities.getCircleLineIntersectionPoint(points[(i + 2) % 4], center, points[i % 4], 10);
-                System.out.println("resize" + x.get(1));
-
-                if (Utilities.isBetween(center, x.get(k),points[i % 4])) {
-                    k = 1;
-                }
-                if (gameWorld.getSlasher().getPosition() == points[i % 4]) {
-                    gameWorld.setSlasher(new Slasher(x.get(k), gameWorld));
-                }
-                points[i%4] = x.get(k);
-
-
-                i++;
-            }
-
-            return true;
+        float area = polygonArea();
+        if (area >= MIN_AREA)
+            return false;
+
+        for (int pass = 0; pass < MAX_RESIZE_PASSES && area < RESIZED_AREA - 1; pass++) {
+            //centroid if the diagonals don't cross (degenerate gameArea)
+            pivot.set((points[0].x+points[1].x+points[2].x+points[3].x)/4, (points[0].y+points[1].y+points[2].y+points[3].y)/4);
+            Geometry.segmentIntersection(points[0].x, points[0].y, points[2].x, points[2].y,
+                    points[1].x, points[1].y, points[3].x, points[3].y, pivot);
+
+            //the area grows with the square of the scale
+            float scale = area > RESIZED_AREA/(MAX_RESIZE_SCALE*MAX_RESIZE_SCALE) ? (float)Math.sqrt(RESIZED_AREA/area) : MAX_RESIZE_SCALE;
+            for (int i = 0; i < 4; i++)
+                points[i].set(pivot.x + (points[i].x-pivot.x)*scale, pivot.y + (points[i].y-pivot.y)*scale);
+
+            Utilities.checkBounds(points);
+            area = polygonArea();
         }
 
-        return false;
+        Slasher slasher = gameWorld.getSlasher();
+        if (slasher != null && indexOf(slasher.getPosition()) >= 0)
+            slasher.setPosition(slasher.getPosition()); //the finger given for the old corner is no longer valid
+
+        return true;
     }
 
-}
\ No newline at end of file
+}
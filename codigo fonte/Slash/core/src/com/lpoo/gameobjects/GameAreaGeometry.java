@@ -0,0 +1,190 @@
+package com.lpoo.gameobjects;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.slashhelpers.Geometry;
+import com.lpoo.slashhelpers.Line;
+
+/**
+ * Values derived from the 4 points of a GameArea, computed once when its shape is set and never changed:
+ * the edges (as Lines and as half-planes), the diagonals' intersection, the centroid, the area,
+ * the bounding box and the inscribed rectangle.
+ * A GameArea makes a new one every time a slash changes its shape, so readers never allocate.
+ * Edge i goes from points[i] to points[i+1].
+ */
+public class GameAreaGeometry {
+
+    private final Line[] edges = new Line[4];
+    /**
+     * Unit normal of each edge, pointing into the gameArea, and offset: inside the edge's half-plane,
+     * normalX*x + normalY*y >= offset.
+     */
+    private final float[] normalX = new float[4], normalY = new float[4], offset = new float[4];
+    /**
+     * Intersection of the diagonals (the centroid if they don't cross inside the gameArea).
+     */
+    private final Vector2 center;
+    private final float centroidX, centroidY;
+    private final float area;
+    private final float minX, minY, maxX, maxY;
+    /**
+     * Axis-aligned rectangle inside the gameArea, between its innermost points on each side.
+     */
+    private final float innerMinX, innerMinY, innerMaxX, innerMaxY;
+
+    /**
+     * Constructor.
+     * @param points the gameArea's 4 points, in the order described in GameArea.
+     */
+    public GameAreaGeometry(Vector2[] points) {
+        Vector2 pt1=points[0], pt2=points[1], pt3=points[2], pt4=points[3];
+        centroidX = (pt1.x+pt2.x+pt3.x+pt4.x)/4;
+        centroidY = (pt1.y+pt2.y+pt3.y+pt4.y)/4;
+
+        float sum = 0;
+        for(int i=0; i<4; i++)
+        {
+            Vector2 a = points[i], b = points[i==3 ? 0 : i+1];
+            edges[i] = new Line(a.x, a.y, b.x, b.y);
+
+            float nx = a.y-b.y, ny = b.x-a.x;
+            float norm = (float)Math.sqrt(nx*nx+ny*ny);
+            nx /= norm;
+            ny /= norm;
+            if(nx*(centroidX-a.x) + ny*(centroidY-a.y) < 0) { //pointing out of the gameArea
+                nx = -nx;
+                ny = -ny;
+            }
+            normalX[i] = nx;
+            normalY[i] = ny;
+            offset[i] = nx*a.x + ny*a.y;
+
+            sum += (a.x+b.x)*(a.y-b.y);
+        }
+        area = Math.abs(sum/2);
+
+        center = new Vector2(centroidX, centroidY); //kept if the diagonals don't cross inside
+        Geometry.segmentIntersection(pt1.x, pt1.y, pt3.x, pt3.y, pt2.x, pt2.y, pt4.x, pt4.y, center);
+
+        minX = Math.min(Math.min(pt1.x, pt2.x), Math.min(pt3.x, pt4.x));
+        maxX = Math.max(Math.max(pt1.x, pt2.x), Math.max(pt3.x, pt4.x));
+        minY = Math.min(Math.min(pt1.y, pt2.y), Math.min(pt3.y, pt4.y));
+        maxY = Math.max(Math.max(pt1.y, pt2.y), Math.max(pt3.y, pt4.y));
+
+        innerMinX = Math.max(pt1.x, pt2.x);
+        innerMaxX = Math.min(pt3.x, pt4.x);
+        innerMinY = Math.max(pt1.y, pt4.y);
+        innerMaxY = Math.min(pt2.y, pt3.y);
+    }
+
+    /**
+     * @param i edge index.
+     * @return line from points[i] to points[i+1]. Not to be changed.
+     */
+    public Line getEdge(int i) {
+        return edges[i];
+    }
+
+    /**
+     * @param i edge index.
+     * @return x component of the edge's unit normal, pointing into the gameArea.
+     */
+    public float getNormalX(int i) {
+        return normalX[i];
+    }
+
+    /**
+     * @param i edge index.
+     * @return y component of the edge's unit normal, pointing into the gameArea.
+     */
+    public float getNormalY(int i) {
+        return normalY[i];
+    }
+
+    /**
+     * @param i edge index.
+     * @return offset of the edge's half-plane (see normalX).
+     */
+    public float getOffset(int i) {
+        return offset[i];
+    }
+
+    /**
+     *
+     * @return intersection of the diagonals, where new balls are created. Not to be changed.
+     */
+    public Vector2 getCenter() {
+        return center;
+    }
+
+    /**
+     *
+     * @return x component of the average of the 4 points.
+     */
+    public float getCentroidX() {
+        return centroidX;
+    }
+
+    /**
+     *
+     * @return y component of the average of the 4 points.
+     */
+    public float getCentroidY() {
+        return centroidY;
+    }
+
+    /**
+     *
+     * @return area of the gameArea.
+     */
+    public float getArea() {
+        return area;
+    }
+
+    public float getMinX() {
+        return minX;
+    }
+
+    public float getMinY() {
+        return minY;
+    }
+
+    public float getMaxX() {
+        return maxX;
+    }
+
+    public float getMaxY() {
+        return maxY;
+    }
+
+    /**
+     *
+     * @return left side of the inscribed rectangle (the rightmost of the 2 left points).
+     */
+    public float getInnerMinX() {
+        return innerMinX;
+    }
+
+    /**
+     *
+     * @return bottom side of the inscribed rectangle.
+     */
+    public float getInnerMinY() {
+        return innerMinY;
+    }
+
+    /**
+     *
+     * @return right side of the inscribed rectangle.
+     */
+    public float getInnerMaxX() {
+        return innerMaxX;
+    }
+
+    /**
+     *
+     * @return top side of the inscribed rectangle.
+     */
+    public float getInnerMaxY() {
+        return innerMaxY;
+    }
+}
@@ -1,10 +1,9 @@
 package com.lpoo.gameobjects;
 
 import com.badlogic.gdx.math.Vector2;
+import com.lpoo.slashhelpers.RandomStream;
 import com.lpoo.slashhelpers.Utilities;
 
-import java.util.Random;
-
 /**
  * Created by Diogo Duque on 05/06/2016.
  *
@@ -31,26 +30,47 @@ public class Redirecter {
      * @param gameAreaPoints vertices of the polygon that gives shape to the GameArea
      */
     public Redirecter(Vector2[] gameAreaPoints) {
+        this(gameAreaPoints, new RandomStream());
+    }
+
+    /**
+     * Constructor.
+     * @param gameAreaPoints vertices of the polygon that gives shape to the GameArea
+     * @param rand gives the redirecter's random position.
+     */
+    public Redirecter(Vector2[] gameAreaPoints, RandomStream rand) {
+        this(new GameAreaGeometry(gameAreaPoints), rand);
+    }
+
+    /**
+     * Constructor. The redirecter appears somewhere inside the gameArea's inscribed rectangle, away from its sides.
+     * @param geometry geometry of the GameArea.
+     * @param rand gives the redirecter's random position.
+     */
+    public Redirecter(GameAreaGeometry geometry, RandomStream rand) {
         int xMin, xMax, yMin, yMax;
-        Random rand = new Random();
-        xMin=(int)(Math.max(gameAreaPoints[0].x,gameAreaPoints[1].x)+2*radius);
-        xMax=(int)(Math.min(gameAreaPoints[2].x, gameAreaPoints[3].x)-2*radius);
-        yMin=(int)(Math.max(gameAreaPoints[0].y, gameAreaPoints[3].y)+2*radius);
-        yMax=(int)(Math.min(gameAreaPoints[1].y, gameAreaPoints[2].y)-2*radius);
+        xMin=(int)(geometry.getInnerMinX()+2*radius);
+        xMax=(int)(geometry.getInnerMaxX()-2*radius);
+        yMin=(int)(geometry.getInnerMinY()+2*radius);
+        yMax=(int)(geometry.getInnerMaxY()-2*radius);
         this.position = new Vector2(xMin+(xMax-xMin)*rand.nextFloat(),yMin+(yMax-yMin)*rand.nextFloat());
     }
 
     /**
      * If the ball received is withing reach of the redirecter, it will instantly have it's direction changed.
      * @param ball ball to be analyzed.
+     * @param x x component of the ball's position.
+     * @param y y component of the ball's position.
+     * @return true if the ball's direction was changed.
      */
-    public void attemptMoveBall(Ball ball)
+    public boolean attemptMoveBall(Ball ball, float x, float y)
     {
-        double distance = Utilities.distance(ball.getBody().getPosition(),position);
+        double distance = Utilities.distance(x,y,position.x,position.y);
         if(distance>radius+Ball.getRadius())
-            return;
+            return false;
 
         ball.setRandomMovement();
+        return true;
     }
 
     /**
@@ -6,12 +6,13 @@ import com.badlogic.gdx.physics.box2d.Body;
 import com.badlogic.gdx.physics.box2d.BodyDef;
 import com.badlogic.gdx.physics.box2d.FixtureDef;
 import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.lpoo.gameworld.BallSnapshot;
 import com.lpoo.gameworld.GameWorld;
-import com.lpoo.slashhelpers.Function;
+import com.lpoo.gameworld.SpatialIndex;
+import com.lpoo.slashhelpers.Geometry;
+import com.lpoo.slashhelpers.Line;
 import com.lpoo.slashhelpers.Utilities;
 
-import java.util.ArrayList;
-
 /**
  * Created by Diogo on 09-05-2016.
  *
@@ -20,6 +21,24 @@ import java.util.ArrayList;
  */
 public class Slasher {
 
+    /**
+     * State of a moving slasher after each physics step.
+     */
+    public enum Status {
+        /**
+         * Still moving.
+         */
+        OK,
+        /**
+         * Reached the opposite edge of the gameArea.
+         */
+        END_REACHED,
+        /**
+         * Hit a ball.
+         */
+        GAME_OVER
+    }
+
     /**
      * GameWorld where all gameobjects are contained.
      */
@@ -28,26 +47,60 @@ public class Slasher {
      * Position where the slasher line intersects the gameArea if there is such, else is null.
      */
     private Vector2 finger;
+    /**
+     * Keeps the finger's position while it is valid, reused by every setFinger.
+     */
+    private Vector2 fingerPoint;
+    /**
+     * Reused by setFinger to find where the slasher's line meets the opposite edges.
+     */
+    private Vector2 intersectA, intersectB;
     /**
      * Position of the corner where slasher was at the start.
      */
     private Vector2 position;
     /**
-     * If slasher is moving, it is the body of the moving slasher.
+     * Body of the moving slasher. Created on the first slash and reused, deactivated, between slashes.
      */
     private Body body;
     /**
-     * If the slasher is moving, it is the body of the yellow line following it.
+     * Body of the yellow line following the moving slasher. Created on the first slash and reused,
+     * its box updated in place every step.
      */
     private Body bodyPath;
+    /**
+     * Shape of the path's fixture, resized in place every step.
+     */
+    private PolygonShape pathShape;
+    /**
+     * True while slashing.
+     */
+    private boolean moving;
+    /**
+     * Center of the path, reused every step.
+     */
+    private Vector2 pathCenter;
+    /**
+     * If the slasher is moving, it is the body's position before the last physics step.
+     */
+    private Vector2 previousBodyPosition;
+    /**
+     * Velocity of the moving slasher.
+     */
+    private float velocityX, velocityY;
     /**
      * Radius of the slasher.
      */
     private final static float radius = Ball.getRadius();
     /**
-     * Slasher's velocity when moving.
+     * Distance between the centers of the slasher and a ball below which they collide.
+     * Should be 2*radius, but as the bodies have a bit more radius, here we account for a bit more too.
+     */
+    private final static float reach = 2.8f*radius;
+    /**
+     * Slasher's velocity when moving, when the GameWorld's Difficulty does not change it.
      */
-    private final static float velocity = 60;
+    public final static float defaultVelocity = 60;
 
     /**
      * Default constructor.
@@ -57,7 +110,13 @@ public class Slasher {
     public Slasher(Vector2 pos, GameWorld gameWorld) {
         body=null;
         bodyPath=null;
+        moving=false;
         finger=null;
+        previousBodyPosition=new Vector2();
+        fingerPoint=new Vector2();
+        intersectA=new Vector2();
+        intersectB=new Vector2();
+        pathCenter=new Vector2();
         position=pos;
         this.gameWorld=gameWorld;
     }
@@ -70,12 +129,69 @@ public class Slasher {
         return position;
     }
 
+    /**
+     * Moves the slasher, when not moving, to another corner of the gameArea (after a slash).
+     * The bodies are kept, to be reused by the next slash.
+     * @param pos position where it will appear when not moving.
+     */
+    public void setPosition(Vector2 pos) {
+        position=pos;
+        finger=null;
+    }
+
     /**
      *
-     * @return body's position in case body exists. Null otherwise.
+     * @return body's position in case slasher is moving. Null otherwise.
      */
     public Vector2 getBodyPosition() {
-        return body==null ? null : body.getPosition();
+        return moving ? body.getPosition() : null;
+    }
+
+    /**
+     *
+     * @return body's position before the last physics step in case slasher is moving. Null otherwise.
+     */
+    public Vector2 getPreviousBodyPosition() {
+        return moving ? previousBodyPosition : null;
+    }
+
+    /**
+     *
+     * @return x component of the velocity of the moving slasher (or of the last one, once it stopped).
+     */
+    float getVelocityX() {
+        return velocityX;
+    }
+
+    /**
+     *
+     * @return y component of the velocity of the moving slasher (or of the last one, once it stopped).
+     */
+    float getVelocityY() {
+        return velocityY;
+    }
+
+    /**
+     * Keeps the current body position as the previous one. Called right before every physics step.
+     */
+    public void savePosition() {
+        if(moving)
+            previousBodyPosition.set(body.getPosition());
+    }
+
+    /**
+     * Puts the moving body where its velocity took it in the last physics step. Called right after every physics step.
+     * Box2D moves a body at most 2 units per step, less than the slasher moves in a step at
+     * GameWorld.LOW_POWER_PHYSICS_RATE; at the default rate Box2D already left it there.
+     * @param stepTime duration of the step, in seconds.
+     */
+    public void endStep(float stepTime) {
+        if(!moving)
+            return;
+        float x = previousBodyPosition.x + stepTime*velocityX, y = previousBodyPosition.y + stepTime*velocityY;
+        Vector2 bodyPosition = body.getPosition();
+        if(bodyPosition.x != x || bodyPosition.y != y)
+            body.setTransform(x, y, 0);
     }
 
     /**
@@ -93,94 +209,74 @@ public class Slasher {
      * @param finger Coordinates where the user's finger touched the screen.
      */
     public void setFinger(Vector2 finger) {
-        if(body!=null)
+        if(moving)
             return;
         this.finger=null;
         if(finger==null)
             return;
 
-        Vector2[] points = gameWorld.getGameArea().getPoints();
-        Vector2 sideB=null, center=null, sideA=null;
-        for(int i=0; i<4; i++)
-        {
-            if(points[i]==position)
-            {
-                sideA=points[(i+1)%4];
-                center=points[(i+2)%4];
-                sideB=points[(i+3)%4];
-                break;
-            }
-        }
+        GameArea gameArea = gameWorld.getGameArea();
+        Vector2[] points = gameArea.getPoints();
+        int corner = gameArea.indexOf(position);
+        Vector2 sideA=points[(corner+1)%4], center=points[(corner+2)%4], sideB=points[(corner+3)%4];
 
-        /*   center
-     .       /|  .
-      .    /  | .       Now we will see if the finger's relative position is the same as the center, when compared to fa and fb.
-       . /    |.        Example: in this example, center is above fa and fb. So, finger should also be above those two.
-       A\    / B        The boundaries, for this example, "are continued" with dots, so that we can see them clearly.
-         \  /           Concluding, if the finger is under any of those lines, the Slasher line wouldn't be drawn.
-          \/
-          SLASHER
-         */
-
-        Function fa = new Function(position,sideA);
-        Function fb = new Function(position,sideB);
-
-        boolean validFinger=false;
-        if(center.y<fa.getY(center.x)) {
-            if(center.y<fb.getY(center.x)) { //center under fa and fb
-                if(finger.y<fa.getY(finger.x) && finger.y<fb.getY(finger.x))
-                    validFinger=true;
-            } else { //center under fa and above fb
-                if(finger.y<fa.getY(finger.x) && finger.y>fb.getY(finger.x))
-                    validFinger=true;
-            }
-        } else {
-            if(center.y<fb.getY(center.x)) { //center above fa and under fb
-                if(finger.y>=fa.getY(finger.x) && finger.y<fb.getY(finger.x))
-                    validFinger=true;
-            } else { //center above fa and fb
-                if(finger.y>=fa.getY(finger.x) && finger.y>fb.getY(finger.x))
-                    validFinger=true;
-            }
-        }
+        //the finger must be on the same side as center of both edges starting at the slasher
+        boolean validFinger =
+                Geometry.orientation(position.x,position.y,sideA.x,sideA.y,finger.x,finger.y)
+                        *Geometry.orientation(position.x,position.y,sideA.x,sideA.y,center.x,center.y) > 0
+                && Geometry.orientation(position.x,position.y,sideB.x,sideB.y,finger.x,finger.y)
+                        *Geometry.orientation(position.x,position.y,sideB.x,sideB.y,center.x,center.y) > 0;
         if(!validFinger) //if it's not in a valid place to draw the line
             return;
 
-        Function funcFinger = new Function(position, finger);
-        //correct the line drawn, so that it stops when intersects a gameArea's edge.
-        Vector2 intersect1, intersect2;
-        intersect1 = new Function(center,sideA).intersect(funcFinger);
-        intersect2 = new Function(center,sideB).intersect(funcFinger);
-        float dist1=0, dist2=0;
-        if(intersect1!=null && intersect2!=null)
-        {
-            dist1=(float)Math.sqrt(Math.pow(intersect1.x-position.x,2)+Math.pow(intersect1.y-position.y,2));
-            dist2=(float)Math.sqrt(Math.pow(intersect2.x-position.x,2)+Math.pow(intersect2.y-position.y,2));
-        }
-        if(dist1>dist2 || intersect1==null) {
-            this.finger = intersect2;
-            gameWorld.getGameArea().setToDelete(sideB);
-        } else {
-            this.finger=intersect1;
-            gameWorld.getGameArea().setToDelete(sideA);
+        //correct the line drawn, so that it stops where it first meets one of the 2 opposite edges
+        float directionX=finger.x-position.x, directionY=finger.y-position.y;
+        float alongA=Geometry.raySegmentIntersection(position.x,position.y,directionX,directionY,
+                center.x,center.y,sideA.x,sideA.y,intersectA);
+        float alongB=Geometry.raySegmentIntersection(position.x,position.y,directionX,directionY,
+                center.x,center.y,sideB.x,sideB.y,intersectB);
+        if(alongB>=0 && (alongA<0 || alongA>alongB)) {
+            this.finger=fingerPoint.set(intersectB);
+            gameArea.setToDelete(sideB);
+        } else if(alongA>=0) {
+            this.finger=fingerPoint.set(intersectA);
+            gameArea.setToDelete(sideA);
         }
     }
 
     /**
-     * Used to start slasher's movement, including the creation of the bodies.
+     * Used to start slasher's movement. The bodies are created on the first slash and reactivated on the next ones.
      */
     public void startedMoving()
     {
-        Vector2 direction = new Vector2(finger.x-position.x,finger.y-position.y);
-        float norm = (float)Math.sqrt(Math.pow(direction.x,2)+Math.pow(direction.y,2));
-        direction.x/=norm; //unitary
-        direction.y/=norm; //unitary
+        float directionX = finger.x-position.x, directionY = finger.y-position.y;
+        float norm = (float)Math.sqrt(directionX*directionX+directionY*directionY);
+        directionX/=norm; //unitary
+        directionY/=norm; //unitary
+        float velocity = 1.5f*gameWorld.getDifficulty().getSlasherVelocity();
 
+        if(body==null)
+            createBodies();
+        body.setTransform(position, 0);
+        velocityX = velocity*directionX;
+        velocityY = velocity*directionY;
+        body.setLinearVelocity(velocityX, velocityY);
+        body.setActive(true);
+        previousBodyPosition.set(position);
+        moving=true;
+        //the path is only activated on the first step, when it has some length
+    }
+
+    /**
+     * Creates the slasher's body and the path's body, both deactivated.
+     */
+    private void createBodies()
+    {
         //criar bola
         BodyDef bodyDef = new BodyDef();
         bodyDef.type = BodyDef.BodyType.KinematicBody;
-        bodyDef.position.set(position.x,position.y); //starts a bit ahead so doesnt instantly collide w/ gameArea
-        bodyDef.linearVelocity.set(1.5f*velocity*direction.x,1.5f*velocity*direction.y); //def linearVelocity
+        bodyDef.position.set(position.x,position.y);
+        bodyDef.active = false;
         body = gameWorld.getWorld().createBody(bodyDef);
         PolygonShape dynamicBox = new PolygonShape();
         dynamicBox.setAsBox(radius,radius);
@@ -190,103 +286,150 @@ public class Slasher {
         fixtureDef.friction = 0.0f;
         fixtureDef.restitution=1.0f;
         body.createFixture(fixtureDef);
+        dynamicBox.dispose();
 
         //criar path
         bodyDef = new BodyDef();
         bodyDef.type = BodyDef.BodyType.StaticBody;
-        bodyDef.position.set(new Vector2());
+        bodyDef.active = false;
         bodyPath = gameWorld.getWorld().createBody(bodyDef);
+        PolygonShape pathBox = new PolygonShape();
+        pathBox.setAsBox(radius, 0.1f); //resized on every step
+        pathShape = (PolygonShape)bodyPath.createFixture(pathBox, 0).getShape();
+        pathBox.dispose();
     }
 
     /**
      * Called as an animation of the Slasher
-     * @return message indicating the status of slasher.
+     * @return status of slasher.
      */
-    public String isMoving()
+    public Status isMoving()
     {
-        String message = checkCollisions();
-        if(message=="Game Over" || message=="Slasher End Reached")
+        Status status = checkCollisions();
+        if(status!=Status.OK)
         {
             finishedMoving();
-            return message;
+            return status;
         }
         //pre-calculations
-        Vector2 midPoint = new Vector2((body.getPosition().x+position.x)/2,(body.getPosition().y+position.y)/2);
-        double distancePTP = Math.sqrt(Math.pow((body.getPosition().x-position.x),2)+Math.pow((body.getPosition().y-position.y),2));
-        double angle = Math.atan((body.getPosition().y-position.y)/(body.getPosition().x-position.x));
-
-        //dispose path
-        gameWorld.getWorld().destroyBody(bodyPath);
+        Vector2 bodyPosition = body.getPosition();
+        pathCenter.set((bodyPosition.x+position.x)/2,(bodyPosition.y+position.y)/2);
+        double distancePTP = Math.sqrt(Math.pow((bodyPosition.x-position.x),2)+Math.pow((bodyPosition.y-position.y),2));
+        double angle = Math.atan((bodyPosition.y-position.y)/(bodyPosition.x-position.x));
 
-        //recreate path
-        BodyDef bodyDef = new BodyDef();
-        bodyDef.type = BodyDef.BodyType.StaticBody;
-        bodyDef.position.set(midPoint);
-        bodyPath = gameWorld.getWorld().createBody(bodyDef);
-        PolygonShape pathBox = new PolygonShape();
-        pathBox.setAsBox((float)distancePTP/2, 0.1f);
-        bodyPath.setTransform(midPoint,(float)angle);
-        bodyPath.createFixture(pathBox, 0);
+        //update path in place: new box, then setTransform so that Box2D updates its bounds
+        pathShape.setAsBox((float)distancePTP/2, 0.1f);
+        bodyPath.setTransform(pathCenter,(float)angle);
+        if(!bodyPath.isActive())
+            bodyPath.setActive(true);
 
-        return "OK";
+        return Status.OK;
     }
 
     /**
-     * Stops Slasher's movement and deletes the bodies.
+     * Stops Slasher's movement and deactivates the bodies, to be reused by the next slash.
      */
     private void finishedMoving()
     {
-        //dispose both
+        body.setLinearVelocity(0, 0);
+        body.setActive(false);
+        bodyPath.setActive(false);
+        moving=false;
+    }
+
+    /**
+     * Destroys the slasher's bodies, if they were created.
+     */
+    public void dispose()
+    {
+        if(body==null)
+            return;
         gameWorld.getWorld().destroyBody(body);
         gameWorld.getWorld().destroyBody(bodyPath);
-
-        //point to null
         body=null;
         bodyPath=null;
+        moving=false;
     }
 
     /**
      * Check if the moving slasher collides with a gameArea line or a Ball.
-     * @return "Game Over" if collided with a ball, "Slasher End Reached" if collided with a line, "OK" otherwise.
+     * Both are checked along the whole movement of the last physics step (the slasher from previousBodyPosition
+     * to the body's position, each ball from its previous position to its current one, see hitsBall), not only where they ended,
+     * so that the result does not depend on the length of the step (see GameWorld::LOW_POWER_PHYSICS_RATE).
+     * @return GAME_OVER if collided with a ball, END_REACHED if collided with a line, OK otherwise.
      */
-    private String checkCollisions()
+    Status checkCollisions()
     {
-        //check with balls
-        ArrayList<Ball> balls=gameWorld.getBalls();
-        for(int i=0; i<balls.size(); i++)
+        Vector2 bodyPosition = body.getPosition();
+        float slasherX = bodyPosition.x, slasherY = bodyPosition.y;
+        float startX = previousBodyPosition.x, startY = previousBodyPosition.y;
+
+        //check with balls: the balls near the slasher's movement, with room for their own movement in the step
+        BallSnapshot balls=gameWorld.getSnapshot();
+        SpatialIndex nearby=gameWorld.getSpatialIndex();
+        float stepTime=gameWorld.getStepTime();
+        float ballMovement=2*gameWorld.getDifficulty().getBallVelocity()*stepTime;
+        int candidates=nearby.querySegment(startX,startY,slasherX,slasherY,reach+ballMovement);
+        for(int k=0; k<candidates; k++)
         {
-            Vector2 ball=balls.get(i).getBody().getPosition();
-            double distance=Utilities.distance(ball,body.getPosition()); //distance between the centers o slasher and ball
-            if(distance<2.8f*radius) //should be 2*radius, but as the bodies have a bit more radius, here we account for a bit more too
+            int i=nearby.getResult(k);
+            if(hitsBall(startX,startY,slasherX,slasherY,balls.getPreviousX(i),balls.getPreviousY(i),balls.getX(i),balls.getY(i),
+                    balls.getPreviousVelocityX(i),balls.getPreviousVelocityY(i),balls.getVelocityX(i),balls.getVelocityY(i),stepTime))
             {
-                return "Game Over";
+                return Status.GAME_OVER;
             }
         }
 
         //check with gameArea
-        Vector2[] pts = gameWorld.getGameArea().getPoints();
-        Function[] functions = new Function[2];
-        for(int i=0; i<4; i++) //getting the slasher's opposite functions
+        GameArea gameArea = gameWorld.getGameArea();
+        int corner = gameArea.indexOf(position);
+        for(int k=1; k<=2; k++) //checking slasher's proximity to the 2 edges opposite to its corner
         {
-            if(pts[i]==position)
-            {
-                functions[0]=new Function(pts[(i+1)%4],pts[(i+2)%4]);
-                functions[1]=new Function(pts[(i+2)%4],pts[(i+3)%4]);
-                break;
+            Line edge = gameArea.getGeometry().getEdge((corner+k)%4);
+            float distance = edge.axisDistance(slasherX,slasherY); //smallest of the vertical and horizontal distances
+            //near the line, or went past it during the step
+            boolean crossed = edge.value(startX,startY)*edge.value(slasherX,slasherY) < 0;
+            if(distance < 2 || crossed) {
+                return Status.END_REACHED;
             }
         }
 
-        for(int i=0; i<2; i++) //checking slasher's proximity to the 2 functions
-        {
-            double distance1 = Math.abs(body.getPosition().y-functions[i].getY(body.getPosition().x)),
-                    distance2 = Math.abs(body.getPosition().x-functions[i].getX(body.getPosition().y));
-            double distance = Math.min(distance1,distance2);
-            if(distance < 2) {
-                return "Slasher End Reached";
-            }
-        }
+        return Status.OK;
+    }
 
-        return "OK";
+    /**
+     * Checks if the slasher hits a ball during a physics step, the slasher moving in a straight line.
+     * The ball moves in a straight line too, unless it bounced (off a wall, another ball or the slasher itself) during
+     * the step: then it is also followed from its start with its velocity before the bounce, and to its end with the
+     * one after it, as the straight line between both ends cuts the corner (more so the longer the step).
+     * @param startX x of the slasher at the start of the step.
+     * @param startY y of the slasher at the start of the step.
+     * @param slasherX x of the slasher at the end of the step.
+     * @param slasherY y of the slasher at the end of the step.
+     * @param ballStartX x of the ball at the start of the step.
+     * @param ballStartY y of the ball at the start of the step.
+     * @param ballX x of the ball at the end of the step.
+     * @param ballY y of the ball at the end of the step.
+     * @param startVelocityX x component of the ball's velocity at the start of the step.
+     * @param startVelocityY y component of the ball's velocity at the start of the step.
+     * @param velocityX x component of the ball's velocity at the end of the step.
+     * @param velocityY y component of the ball's velocity at the end of the step.
+     * @param stepTime duration of the step, in seconds.
+     * @return true if their centers got closer than reach, at the end of the step or during it.
+     */
+    static boolean hitsBall(float startX, float startY, float slasherX, float slasherY,
+                            float ballStartX, float ballStartY, float ballX, float ballY,
+                            float startVelocityX, float startVelocityY, float velocityX, float velocityY, float stepTime)
+    {
+        if(Utilities.distance(ballX,ballY,slasherX,slasherY)<reach
+                || Utilities.sweptDistance(startX,startY,slasherX,slasherY,ballStartX,ballStartY,ballX,ballY)<reach)
+            return true;
+        if(startVelocityX==velocityX && startVelocityY==velocityY)
+            return false;
+        return Utilities.sweptDistance(startX,startY,slasherX,slasherY,ballStartX,ballStartY,
+                        ballStartX+stepTime*startVelocityX,ballStartY+stepTime*startVelocityY)<reach
+                || Utilities.sweptDistance(startX,startY,slasherX,slasherY,
+                        ballX-stepTime*velocityX,ballY-stepTime*velocityY,ballX,ballY)<reach;
     }
 
 }
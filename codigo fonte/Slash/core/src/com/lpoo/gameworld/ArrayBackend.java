@@ -0,0 +1,223 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.gameobjects.GameAreaGeometry;
+import com.lpoo.gameobjects.Slasher;
+
+import java.util.Arrays;
+
+/**
+ * Moves the balls in Java, with their positions and velocities kept in plain float arrays (one array per component),
+ * so that a step is a single loop over primitives, with no Box2D (JNI) call per ball.
+ *
+ * Balls are boxes that never rotate. A ball bounces off a gameArea wall (or the slasher's path) by reflecting
+ * its velocity on the wall's normal, as an elastic, frictionless Box2D contact with a flat wall does.
+ * Unlike Box2dBackend, balls go through each other and through the slasher (which ends the game before touching them).
+ * The slasher's kinematic body is still moved by the GameWorld's World, which then has no dynamic bodies.
+ */
+public class ArrayBackend implements PhysicsBackend {
+
+    /**
+     * Half the width of the gameArea's walls (see GameArea::updateEdge).
+     */
+    static final float WALL_HALF_WIDTH = 1;
+    /**
+     * Half the width of the slasher's path (see Slasher::isMoving).
+     */
+    static final float PATH_HALF_WIDTH = 0.1f;
+    /**
+     * Distance Box2D keeps between two touching boxes (twice b2_polygonRadius).
+     */
+    static final float SKIN = 0.02f;
+
+    private GameWorld gameWorld;
+
+    private float[] x, y, vx, vy, halfSize;
+    private boolean[] active;
+    /**
+     * Number of ids given so far (destroyed ones included).
+     */
+    private int count;
+    /**
+     * Ids of destroyed balls, to be given to new ones.
+     */
+    private int[] freeIds;
+    private int freeCount;
+    /**
+     * Calls into Box2D made so far (one World::step per step).
+     */
+    private long nativeCalls;
+
+    /**
+     * Constructor.
+     * @param gameWorld game whose gameArea and slasher the balls bounce off. Its World is stepped by this backend.
+     */
+    public ArrayBackend(GameWorld gameWorld) {
+        this.gameWorld = gameWorld;
+        int capacity = 16;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        halfSize = new float[capacity];
+        active = new boolean[capacity];
+        freeIds = new int[8];
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.ARRAYS;
+    }
+
+    @Override
+    public int createBall(float xPos, float yPos, float half) {
+        int id;
+        if(freeCount > 0)
+            id = freeIds[--freeCount];
+        else {
+            if(count == x.length)
+                grow(count*2);
+            id = count++;
+        }
+        x[id] = xPos;
+        y[id] = yPos;
+        vx[id] = 0;
+        vy[id] = 0;
+        halfSize[id] = half;
+        active[id] = true;
+        return id;
+    }
+
+    private void grow(int capacity) {
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        halfSize = Arrays.copyOf(halfSize, capacity);
+        active = Arrays.copyOf(active, capacity);
+    }
+
+    @Override
+    public void setBallActive(int ball, boolean active) {
+        this.active[ball] = active;
+    }
+
+    @Override
+    public void setBallPosition(int ball, float xPos, float yPos) {
+        x[ball] = xPos;
+        y[ball] = yPos;
+    }
+
+    @Override
+    public void setBallVelocity(int ball, float xVel, float yVel) {
+        vx[ball] = xVel;
+        vy[ball] = yVel;
+    }
+
+    @Override
+    public Vector2 getBallPosition(int ball, Vector2 out) {
+        return out.set(x[ball], y[ball]);
+    }
+
+    @Override
+    public Vector2 getBallVelocity(int ball, Vector2 out) {
+        return out.set(vx[ball], vy[ball]);
+    }
+
+    @Override
+    public void destroyBall(int ball) {
+        active[ball] = false;
+        if(freeCount == freeIds.length)
+            freeIds = Arrays.copyOf(freeIds, freeIds.length*2);
+        freeIds[freeCount++] = ball;
+    }
+
+    @Override
+    public void step(float stepTime) {
+        //the path, as Box2D sees it during this step, was set from the slasher's position before the step
+        Slasher slasher = gameWorld.getSlasher();
+        Vector2 tip = slasher.getBodyPosition();
+        boolean path = false;
+        float ax = 0, ay = 0, ux = 0, uy = 0, length = 0;
+        if(tip != null)
+        {
+            Vector2 start = slasher.getPosition();
+            ax = start.x;
+            ay = start.y;
+            ux = tip.x-ax;
+            uy = tip.y-ay;
+            length = (float)Math.sqrt(ux*ux+uy*uy);
+            if(length > 0) {
+                ux /= length;
+                uy /= length;
+                path = true;
+            }
+        }
+
+        gameWorld.getWorld().step(stepTime, 6, 2); //only the slasher moves there
+        nativeCalls++;
+        GameAreaGeometry walls = gameWorld.getGameArea().getGeometry(); //inward normal and offset of each wall
+
+        for(int i=0; i<count; i++)
+        {
+            if(!active[i])
+                continue;
+            float px = x[i] + vx[i]*stepTime, py = y[i] + vy[i]*stepTime;
+            float pvx = vx[i], pvy = vy[i];
+            float half = halfSize[i];
+
+            for(int w=0; w<4; w++)
+            {
+                float nx = walls.getNormalX(w), ny = walls.getNormalY(w);
+                float reach = WALL_HALF_WIDTH + half*(Math.abs(nx)+Math.abs(ny)) + SKIN;
+                float penetration = nx*px + ny*py - walls.getOffset(w) - reach;
+                float normalVelocity = nx*pvx + ny*pvy;
+                if(penetration < 0 && normalVelocity < 0)
+                {
+                    //reflected, as if it had bounced when touching the wall
+                    pvx -= 2*normalVelocity*nx;
+                    pvy -= 2*normalVelocity*ny;
+                    px -= 2*penetration*nx;
+                    py -= 2*penetration*ny;
+                }
+            }
+
+            if(path)
+            {
+                float rx = px-ax, ry = py-ay;
+                float along = rx*ux + ry*uy;
+                if(along >= 0 && along <= length)
+                {
+                    //normal pointing to the ball's side of the path
+                    float nx = -uy, ny = ux;
+                    float across = rx*nx + ry*ny;
+                    if(across < 0) {
+                        nx = -nx;
+                        ny = -ny;
+                        across = -across;
+                    }
+                    float reach = PATH_HALF_WIDTH + half*(Math.abs(nx)+Math.abs(ny)) + SKIN;
+                    float normalVelocity = nx*pvx + ny*pvy;
+                    if(across < reach && normalVelocity < 0)
+                    {
+                        pvx -= 2*normalVelocity*nx;
+                        pvy -= 2*normalVelocity*ny;
+                        px += 2*(reach-across)*nx;
+                        py += 2*(reach-across)*ny;
+                    }
+                }
+            }
+
+            x[i] = px;
+            y[i] = py;
+            vx[i] = pvx;
+            vy[i] = pvy;
+        }
+    }
+
+    @Override
+    public long getNativeCalls() {
+        return nativeCalls;
+    }
+
+}
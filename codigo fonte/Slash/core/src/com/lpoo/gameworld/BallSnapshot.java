@@ -0,0 +1,214 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.gameobjects.Ball;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Positions and velocities of all the balls, read from their PhysicsBackend once per physics step
+ * and kept in plain float arrays, in the same order as GameWorld::getBalls.
+ * Everything that needs a ball's position during a step or a frame (redirecter, slasher, captures, rendering)
+ * reads it here, so that each ball costs a fixed number of Box2D (JNI) calls per step, however many readers there are.
+ */
+public class BallSnapshot {
+
+    private float[] x, y, vx, vy;
+    /**
+     * Positions before the last physics step, used to interpolate when rendering.
+     */
+    private float[] previousX, previousY;
+    /**
+     * Velocities before the last physics step, to know where a ball that bounced during the step was going.
+     */
+    private float[] previousVx, previousVy;
+    private int size;
+    /**
+     * Changed every time the positions change (capture, add, remove), so that SpatialIndex knows when to rebuild.
+     */
+    private int version;
+
+    public BallSnapshot() {
+        int capacity = 16;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        previousX = new float[capacity];
+        previousY = new float[capacity];
+        previousVx = new float[capacity];
+        previousVy = new float[capacity];
+    }
+
+    /**
+     * Reads the position and velocity of every ball. Called right after every physics step.
+     * The positions and velocities read by the previous capture become the previous ones (new balls have none,
+     * so their previous position and velocity are the current ones).
+     * @param balls balls of the game.
+     */
+    public void capture(ArrayList<Ball> balls) {
+        int n = balls.size();
+        ensureCapacity(n);
+        for(int i=0; i<n; i++)
+        {
+            Ball ball = balls.get(i);
+            Vector2 position = ball.getPosition();
+            if(i < size) {
+                previousX[i] = x[i];
+                previousY[i] = y[i];
+            } else {
+                previousX[i] = position.x;
+                previousY[i] = position.y;
+            }
+            x[i] = position.x;
+            y[i] = position.y;
+            Vector2 velocity = ball.getLinearVelocity();
+            previousVx[i] = i < size ? vx[i] : velocity.x;
+            previousVy[i] = i < size ? vy[i] : velocity.y;
+            vx[i] = velocity.x;
+            vy[i] = velocity.y;
+        }
+        size = n;
+        version++;
+    }
+
+    /**
+     * Adds a ball created after the last capture, at the end.
+     * @param ball new ball.
+     */
+    public void add(Ball ball) {
+        ensureCapacity(size+1);
+        int i = size++;
+        Vector2 position = ball.getPosition();
+        x[i] = previousX[i] = position.x;
+        y[i] = previousY[i] = position.y;
+        Vector2 velocity = ball.getLinearVelocity();
+        vx[i] = previousVx[i] = velocity.x;
+        vy[i] = previousVy[i] = velocity.y;
+        version++;
+    }
+
+    /**
+     * Removes a ball, moving the following ones back one position (as ArrayList::remove does).
+     * @param i index of the ball.
+     */
+    public void remove(int i) {
+        int moved = size-i-1;
+        System.arraycopy(x, i+1, x, i, moved);
+        System.arraycopy(y, i+1, y, i, moved);
+        System.arraycopy(vx, i+1, vx, i, moved);
+        System.arraycopy(vy, i+1, vy, i, moved);
+        System.arraycopy(previousX, i+1, previousX, i, moved);
+        System.arraycopy(previousY, i+1, previousY, i, moved);
+        System.arraycopy(previousVx, i+1, previousVx, i, moved);
+        System.arraycopy(previousVy, i+1, previousVy, i, moved);
+        size--;
+        version++;
+    }
+
+    /**
+     * Reads again the velocity of a ball, after it was changed (e.g. by the redirecter).
+     * @param i index of the ball.
+     * @param ball the ball.
+     */
+    public void updateVelocity(int i, Ball ball) {
+        Vector2 velocity = ball.getLinearVelocity();
+        vx[i] = velocity.x;
+        vy[i] = velocity.y;
+    }
+
+    private void ensureCapacity(int n) {
+        if(n <= x.length)
+            return;
+        int capacity = Math.max(n, x.length*2);
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        vx = Arrays.copyOf(vx, capacity);
+        vy = Arrays.copyOf(vy, capacity);
+        previousX = Arrays.copyOf(previousX, capacity);
+        previousY = Arrays.copyOf(previousY, capacity);
+        previousVx = Arrays.copyOf(previousVx, capacity);
+        previousVy = Arrays.copyOf(previousVy, capacity);
+    }
+
+    /**
+     *
+     * @return number of balls.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     *
+     * @return number of times the positions changed.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * @param i index of the ball.
+     * @return x component of the ball's position.
+     */
+    public float getX(int i) {
+        return x[i];
+    }
+
+    /**
+     * @param i index of the ball.
+     * @return y component of the ball's position.
+     */
+    public float getY(int i) {
+        return y[i];
+    }
+
+    /**
+     * @param i index of the ball.
+     * @return x component of the ball's velocity.
+     */
+    public float getVelocityX(int i) {
+        return vx[i];
+    }
+
+    /**
+     * @param i index of the ball.
+     * @return y component of the ball's velocity.
+     */
+    public float getVelocityY(int i) {
+        return vy[i];
+    }
+
+    /**
+     * @param i index of the ball.
+     * @return x component of the ball's position before the last physics step.
+     */
+    public float getPreviousX(int i) {
+        return previousX[i];
+    }
+
+    /**
+     * @param i index of the ball.
+     * @return y component of the ball's position before the last physics step.
+     */
+    public float getPreviousY(int i) {
+        return previousY[i];
+    }
+
+    /**
+     * @param i index of the ball.
+     * @return x component of the ball's velocity before the last physics step.
+     */
+    public float getPreviousVelocityX(int i) {
+        return previousVx[i];
+    }
+
+    /**
+     * @param i index of the ball.
+     * @return y component of the ball's velocity before the last physics step.
+     */
+    public float getPreviousVelocityY(int i) {
+        return previousVy[i];
+    }
+}
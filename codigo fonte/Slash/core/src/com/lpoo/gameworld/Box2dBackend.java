@@ -0,0 +1,145 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.World;
+
+import java.util.ArrayList;
+
+/**
+ * Each ball is a frictionless, fully elastic, dynamic Box2D box, bouncing off the other bodies of the World
+ * (the gameArea's walls, the slasher, its path and the other balls).
+ */
+public class Box2dBackend implements PhysicsBackend {
+
+    /**
+     * World where the balls' bodies are created.
+     */
+    private World world;
+    /**
+     * Body of each ball, by id. Null for destroyed balls.
+     */
+    private ArrayList<Body> bodies;
+    /**
+     * Ids of destroyed balls, to be given to new ones.
+     */
+    private int[] freeIds;
+    private int freeCount;
+    /**
+     * Calls into Box2D made so far.
+     */
+    private long nativeCalls;
+
+    /**
+     * Constructor.
+     * @param world World where the balls' bodies are created. Stepped by this backend.
+     */
+    public Box2dBackend(World world) {
+        this.world = world;
+        bodies = new ArrayList<Body>();
+        freeIds = new int[8];
+    }
+
+    @Override
+    public Kind getKind() {
+        return Kind.BOX2D;
+    }
+
+    @Override
+    public int createBall(float x, float y, float halfSize) {
+        //criar body
+        BodyDef bodyDef = new BodyDef();
+        bodyDef.type = BodyDef.BodyType.DynamicBody; //é dinamico (sofre acao de forcas)
+        bodyDef.position.set(x, y);
+        Body body = world.createBody(bodyDef);
+
+        //criar forma de caixa...
+        PolygonShape dynamicBox = new PolygonShape();
+        dynamicBox.setAsBox(halfSize, halfSize);
+        //...e criar uma fixture atraves dessa forma
+        FixtureDef fixtureDef = new FixtureDef();
+        fixtureDef.shape = dynamicBox;
+        fixtureDef.density = 1.0f;
+        fixtureDef.friction = 0.0f;
+        fixtureDef.restitution = 1.0f;
+        body.createFixture(fixtureDef);
+        dynamicBox.dispose();
+        nativeCalls += 5;
+
+        if(freeCount > 0) {
+            int id = freeIds[--freeCount];
+            bodies.set(id, body);
+            return id;
+        }
+        bodies.add(body);
+        return bodies.size()-1;
+    }
+
+    @Override
+    public void setBallActive(int ball, boolean active) {
+        bodies.get(ball).setActive(active);
+        nativeCalls++;
+    }
+
+    @Override
+    public void setBallPosition(int ball, float x, float y) {
+        Body body = bodies.get(ball);
+        body.setTransform(x, y, 0);
+        body.setAngularVelocity(0);
+        nativeCalls += 2;
+    }
+
+    @Override
+    public void setBallVelocity(int ball, float vx, float vy) {
+        bodies.get(ball).setLinearVelocity(vx, vy);
+        nativeCalls++;
+    }
+
+    @Override
+    public Vector2 getBallPosition(int ball, Vector2 out) {
+        nativeCalls++;
+        return out.set(bodies.get(ball).getPosition());
+    }
+
+    @Override
+    public Vector2 getBallVelocity(int ball, Vector2 out) {
+        nativeCalls++;
+        return out.set(bodies.get(ball).getLinearVelocity());
+    }
+
+    @Override
+    public void destroyBall(int ball) {
+        world.destroyBody(bodies.get(ball));
+        nativeCalls++;
+        bodies.set(ball, null);
+        if(freeCount == freeIds.length)
+        {
+            int[] grown = new int[freeIds.length*2];
+            System.arraycopy(freeIds, 0, grown, 0, freeCount);
+            freeIds = grown;
+        }
+        freeIds[freeCount++] = ball;
+    }
+
+    @Override
+    public void step(float stepTime) {
+        world.step(stepTime, 6, 2);
+        nativeCalls++;
+    }
+
+    @Override
+    public long getNativeCalls() {
+        return nativeCalls;
+    }
+
+    /**
+     * @param ball id of the ball.
+     * @return Box2D body of the ball.
+     */
+    public Body getBody(int ball) {
+        return bodies.get(ball);
+    }
+}
@@ -0,0 +1,112 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Which balls of a BallSnapshot are inside the triangle cut by a slash, found in one pass over their positions.
+ * The triangle's edge vectors are computed once, so each ball costs 3 cross products and no branch,
+ * and the result is kept as a bitmask (bit i set if ball i was captured) that is reused between slashes.
+ *
+ * A ball on an edge counts as captured, as with Geometry::pointInConvexPolygon.
+ */
+public class CaptureMask {
+
+    /**
+     * Start of each edge and the edge's vector, turned so that the inside is on the left of every edge.
+     */
+    private float ax, ay, bx, by, cx, cy;
+    private float abX, abY, bcX, bcY, caX, caY;
+
+    private long[] bits = new long[1];
+    private int size;
+
+    /**
+     * Sets the triangle the next capture looks for balls in.
+     * @param a one vertex.
+     * @param b another vertex.
+     * @param c the last vertex.
+     */
+    public void setTriangle(Vector2 a, Vector2 b, Vector2 c) {
+        ax = a.x; ay = a.y;
+        float orientation = (b.x-a.x)*(c.y-a.y) - (b.y-a.y)*(c.x-a.x);
+        if(orientation >= 0) {
+            bx = b.x; by = b.y;
+            cx = c.x; cy = c.y;
+        } else { //clockwise, go the other way round
+            bx = c.x; by = c.y;
+            cx = b.x; cy = b.y;
+        }
+        abX = bx-ax; abY = by-ay;
+        bcX = cx-bx; bcY = cy-by;
+        caX = ax-cx; caY = ay-cy;
+    }
+
+    /**
+     * Marks every ball of the snapshot that is inside the triangle.
+     * @param snapshot positions of the balls.
+     * @return number of balls inside.
+     */
+    public int capture(BallSnapshot snapshot) {
+        size = snapshot.size();
+        int words = (size+63) >>> 6;
+        if(bits.length < words)
+            bits = new long[Math.max(words, bits.length*2)];
+
+        int count = 0;
+        for(int w=0; w<words; w++)
+        {
+            long word = 0;
+            int end = Math.min(64, size - (w << 6));
+            for(int j=0; j<end; j++)
+            {
+                int i = (w << 6) + j;
+                float x = snapshot.getX(i), y = snapshot.getY(i);
+                //+0 turns -0 (a ball on an edge) into 0, so that only the sign bits of negative values are set
+                float e0 = abX*(y-ay) - abY*(x-ax) + 0f;
+                float e1 = bcX*(y-by) - bcY*(x-bx) + 0f;
+                float e2 = caX*(y-cy) - caY*(x-cx) + 0f;
+                int outside = (Float.floatToRawIntBits(e0) | Float.floatToRawIntBits(e1) | Float.floatToRawIntBits(e2)) >>> 31;
+                word |= (long)(outside ^ 1) << j;
+            }
+            bits[w] = word;
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    /**
+     * @param i index of a ball in the snapshot of the last capture.
+     * @return true if the ball is inside the triangle.
+     */
+    public boolean isCaptured(int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * @param from index to look from, going down (the number of balls to start at the last one).
+     * @return the highest index below from of a captured ball; -1 if there is none.
+     */
+    public int previousCaptured(int from) {
+        int i = from-1;
+        if(i < 0)
+            return -1;
+        int w = i >>> 6;
+        long word = bits[w] & (-1L >>> (63 - (i & 63)));
+        while(true)
+        {
+            if(word != 0)
+                return (w << 6) + 63 - Long.numberOfLeadingZeros(word);
+            if(--w < 0)
+                return -1;
+            word = bits[w];
+        }
+    }
+
+    /**
+     *
+     * @return number of balls of the last capture.
+     */
+    public int size() {
+        return size;
+    }
+}
@@ -0,0 +1,74 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+
+/**
+ * A white circle rasterized once into a texture, so that every round object (balls, slasher, redirecter)
+ * is drawn as one tinted sprite of 4 vertices through a Batch, instead of a triangle fan generated every frame.
+ * Lines are drawn from a fully white part of the same texture, so they do not break the batch either.
+ */
+public class CircleSprites {
+
+    /**
+     * Diameter of the rasterized circle, in pixels.
+     */
+    public static final int SIZE = 64;
+
+    private Texture texture;
+    private TextureRegion circle, white;
+
+    /**
+     * Rasterizes the circle. Needs an OpenGL context.
+     */
+    public CircleSprites() {
+        //one transparent pixel around the circle, so that filtering does not bleed into it
+        Pixmap pixmap = new Pixmap(SIZE+2, SIZE+2, Pixmap.Format.RGBA8888);
+        pixmap.setColor(0, 0, 0, 0);
+        pixmap.fill();
+        pixmap.setColor(1, 1, 1, 1);
+        pixmap.fillCircle(SIZE/2+1, SIZE/2+1, SIZE/2);
+        texture = new Texture(pixmap);
+        texture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        pixmap.dispose();
+
+        circle = new TextureRegion(texture, 1, 1, SIZE, SIZE);
+        white = new TextureRegion(texture, SIZE/2, SIZE/2, 2, 2); //center of the circle
+    }
+
+    /**
+     * Draws a circle with the batch's color. Must be called between batch.begin() and batch.end().
+     * @param batch batch to draw with.
+     * @param x x of the center.
+     * @param y y of the center.
+     * @param radius radius.
+     */
+    public void drawCircle(Batch batch, float x, float y, float radius) {
+        batch.draw(circle, x-radius, y-radius, 2*radius, 2*radius);
+    }
+
+    /**
+     * Draws a line as a thin rectangle with the batch's color. Must be called between batch.begin() and batch.end().
+     * @param batch batch to draw with.
+     * @param x1 x of one end.
+     * @param y1 y of one end.
+     * @param x2 x of the other end.
+     * @param y2 y of the other end.
+     * @param width width of the line.
+     */
+    public void drawLine(Batch batch, float x1, float y1, float x2, float y2, float width) {
+        float dx = x2-x1, dy = y2-y1;
+        float length = (float)Math.sqrt(dx*dx + dy*dy);
+        float degrees = (float)Math.toDegrees(Math.atan2(dy, dx));
+        batch.draw(white, x1, y1-width/2, 0, width/2, length, width, 1, 1, degrees);
+    }
+
+    /**
+     * Frees the texture.
+     */
+    public void dispose() {
+        texture.dispose();
+    }
+}
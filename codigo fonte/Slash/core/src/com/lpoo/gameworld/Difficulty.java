@@ -0,0 +1,79 @@
+package com.lpoo.gameworld;
+
+import com.lpoo.gameobjects.Ball;
+import com.lpoo.gameobjects.Redirecter;
+import com.lpoo.gameobjects.Slasher;
+
+/**
+ * The parameters that make a game harder or easier. Each GameWorld has its own, so that games with
+ * different parameters can be simulated side by side.
+ */
+public class Difficulty {
+
+    /**
+     * Parameters used when playing.
+     */
+    public static final Difficulty DEFAULT = new Difficulty(10, Redirecter.scoreLimit, Ball.defaultVelocity, Slasher.defaultVelocity);
+
+    /**
+     * Seconds (counting from the gameArea creation) until which a slasher can be started.
+     */
+    private final int timerLimit;
+    /**
+     * Score from which a redirecter appears in the gameArea.
+     */
+    private final int redirecterScoreLimit;
+    /**
+     * Velocity of the balls.
+     */
+    private final float ballVelocity;
+    /**
+     * Velocity of the slasher.
+     */
+    private final float slasherVelocity;
+
+    public Difficulty(int timerLimit, int redirecterScoreLimit, float ballVelocity, float slasherVelocity) {
+        this.timerLimit = timerLimit;
+        this.redirecterScoreLimit = redirecterScoreLimit;
+        this.ballVelocity = ballVelocity;
+        this.slasherVelocity = slasherVelocity;
+    }
+
+    /**
+     *
+     * @return timerLimit
+     */
+    public int getTimerLimit() {
+        return timerLimit;
+    }
+
+    /**
+     *
+     * @return redirecterScoreLimit
+     */
+    public int getRedirecterScoreLimit() {
+        return redirecterScoreLimit;
+    }
+
+    /**
+     *
+     * @return ballVelocity
+     */
+    public float getBallVelocity() {
+        return ballVelocity;
+    }
+
+    /**
+     *
+     * @return slasherVelocity
+     */
+    public float getSlasherVelocity() {
+        return slasherVelocity;
+    }
+
+    @Override
+    public String toString() {
+        return "timerLimit=" + timerLimit + ", redirecterScoreLimit=" + redirecterScoreLimit
+                + ", ballVelocity=" + ballVelocity + ", slasherVelocity=" + slasherVelocity;
+    }
+}
@@ -0,0 +1,16 @@
+package com.lpoo.gameworld;
+
+/**
+ * Receives the events of a GameWorld, so that the model never has to know about screens, audio, files or the network.
+ * Implemented by the GameScreen when playing, and by the SimulationRunner when running without rendering.
+ */
+public interface EventConsumer {
+
+    /**
+     * Called for every event published since the last dispatch, in the order they were published.
+     * @param event what happened.
+     * @param first first payload (see GameEvent).
+     * @param second second payload (see GameEvent).
+     */
+    void onEvent(GameEvent event, int first, int second);
+}
@@ -0,0 +1,129 @@
+package com.lpoo.gameworld;
+
+import java.util.ArrayList;
+
+/**
+ * Ring of the events published by a GameWorld, drained once per frame by dispatch.
+ * Events are kept in preallocated arrays (type and two int payloads), so publishing and dispatching allocate nothing.
+ * Design Pattern: Observer - GameWorld is the subject, EventConsumers are the observers.
+ */
+public class EventQueue {
+
+    /**
+     * Events kept before the ring needs to grow.
+     */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    private GameEvent[] events;
+    private int[] first;
+    private int[] second;
+    /**
+     * Index of the oldest event not yet dispatched.
+     */
+    private int head = 0;
+    /**
+     * Number of events not yet dispatched.
+     */
+    private int size = 0;
+    private ArrayList<EventConsumer> consumers = new ArrayList<EventConsumer>();
+
+    public EventQueue() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor.
+     * @param capacity events kept before the ring needs to grow.
+     */
+    public EventQueue(int capacity) {
+        events = new GameEvent[capacity];
+        first = new int[capacity];
+        second = new int[capacity];
+    }
+
+    /**
+     * Adds a consumer, that will receive every event dispatched from now on.
+     * @param consumer consumer to add.
+     */
+    public void addConsumer(EventConsumer consumer) {
+        consumers.add(consumer);
+    }
+
+    /**
+     * @param consumer consumer that will stop receiving events.
+     */
+    public void removeConsumer(EventConsumer consumer) {
+        consumers.remove(consumer);
+    }
+
+    /**
+     * Keeps an event until the next dispatch. Only allocates if more events than the capacity are published between dispatches.
+     * @param event what happened.
+     * @param first first payload (see GameEvent).
+     * @param second second payload (see GameEvent).
+     */
+    public void publish(GameEvent event, int first, int second) {
+        if(size == events.length)
+            grow();
+        int tail = (head+size) % events.length;
+        events[tail] = event;
+        this.first[tail] = first;
+        this.second[tail] = second;
+        size++;
+    }
+
+    /**
+     * Sends every kept event, oldest first, to every consumer, and empties the ring.
+     * Events published by a consumer while dispatching are sent in the same dispatch.
+     */
+    public void dispatch() {
+        while(size > 0)
+        {
+            GameEvent event = events[head];
+            int a = first[head], b = second[head];
+            events[head] = null;
+            head = (head+1) % events.length;
+            size--;
+            for(int i=0; i<consumers.size(); i++)
+                consumers.get(i).onEvent(event, a, b);
+        }
+    }
+
+    /**
+     * Discards every kept event without dispatching it.
+     */
+    public void clear() {
+        for(int i=0; i<events.length; i++)
+            events[i] = null;
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     *
+     * @return number of events not yet dispatched.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Doubles the ring's capacity, keeping the events in order.
+     */
+    private void grow() {
+        int capacity = events.length*2;
+        GameEvent[] newEvents = new GameEvent[capacity];
+        int[] newFirst = new int[capacity], newSecond = new int[capacity];
+        for(int i=0; i<size; i++)
+        {
+            int j = (head+i) % events.length;
+            newEvents[i] = events[j];
+            newFirst[i] = first[j];
+            newSecond[i] = second[j];
+        }
+        events = newEvents;
+        first = newFirst;
+        second = newSecond;
+        head = 0;
+    }
+}
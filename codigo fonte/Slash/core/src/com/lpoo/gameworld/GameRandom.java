@@ -0,0 +1,68 @@
+package com.lpoo.gameworld;
+
+import com.lpoo.slashhelpers.RandomStream;
+
+/**
+ * Every random number of a game comes from here, so the whole game can be repeated from its seed.
+ * Each purpose has its own stream, so that e.g. a ball bouncing in the redirecter one more time
+ * does not change where the next balls are spawned.
+ */
+public class GameRandom {
+
+    private long seed;
+    /**
+     * Where new balls are spawned.
+     */
+    private RandomStream spawn;
+    /**
+     * Directions of the balls, when created and when redirected.
+     */
+    private RandomStream movement;
+    /**
+     * Where the redirecter appears.
+     */
+    private RandomStream redirecter;
+
+    /**
+     * Constructor.
+     * @param seed seed of the game.
+     */
+    public GameRandom(long seed) {
+        this.seed = seed;
+        spawn = new RandomStream(RandomStream.mix(seed ^ 0x5350415741L));
+        movement = new RandomStream(RandomStream.mix(seed ^ 0x4D4F5645L));
+        redirecter = new RandomStream(RandomStream.mix(seed ^ 0x5245444952L));
+    }
+
+    /**
+     *
+     * @return seed of the game.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     *
+     * @return stream for where new balls are spawned.
+     */
+    public RandomStream getSpawn() {
+        return spawn;
+    }
+
+    /**
+     *
+     * @return stream for the directions of the balls.
+     */
+    public RandomStream getMovement() {
+        return movement;
+    }
+
+    /**
+     *
+     * @return stream for where the redirecter appears.
+     */
+    public RandomStream getRedirecter() {
+        return redirecter;
+    }
+}
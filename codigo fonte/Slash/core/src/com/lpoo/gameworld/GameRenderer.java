@@ -6,12 +6,14 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
-import com.badlogic.gdx.graphics.glutils.ShapeRenderer.ShapeType;
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.utils.StringBuilder;
 import com.lpoo.gameobjects.Ball;
 import com.lpoo.gameobjects.Redirecter;
 import com.lpoo.slash.GameScreen;
+import com.lpoo.slash.Slash;
+import com.lpoo.slashhelpers.FrameProfiler;
+import com.lpoo.slashhelpers.FrameProfiler.Phase;
 
 
 /**
@@ -22,27 +24,83 @@ import com.lpoo.slash.GameScreen;
 public class GameRenderer {
 
     private OrthographicCamera cam;
-    private ShapeRenderer shapeRenderer;
     private SpriteBatch batcher;
 
     private GameWorld gameWorld;
     private BitmapFont font;
+    /**
+     * Reused to build the profiler overlay text without creating Strings every frame.
+     */
+    private StringBuilder overlayText = new StringBuilder();
+    /**
+     * Highscore, score and time texts, rebuilt only when they change.
+     */
+    private HudText hud = new HudText();
+    /**
+     * Background and GameArea outline.
+     */
+    private StaticLayer staticLayer;
+    /**
+     * Circle texture the balls, slasher and redirecter are drawn with.
+     */
+    private CircleSprites circles;
+    /**
+     * True if the batch and font were created by this renderer, and so are freed with it.
+     */
+    private boolean ownsBatch = false;
+    /**
+     * Sprites per batch flush: the most a SpriteBatch allows, so that all the balls take as few draw calls as possible.
+     */
+    public static final int BATCH_SIZE = 8191;
+    /**
+     * Width of the slasher's lines (the same as ShapeRenderer's lines in ShapeType.Filled).
+     */
+    private static final float LINE_WIDTH = 0.75f;
 
 
     public GameRenderer(GameWorld world, GameScreen screen) {
+        this(world, screen.width, screen.height, Slash.getAssets().getBatch(), Slash.getAssets().getFont());
+    }
+
+    /**
+     * Constructor, with a batch and font of its own.
+     * @param world game to draw.
+     * @param width width of the camera, in game units.
+     * @param height height of the camera, in game units.
+     */
+    public GameRenderer(GameWorld world, float width, float height) {
+        this(world, width, height, new SpriteBatch(BATCH_SIZE), new BitmapFont());
+        ownsBatch = true;
+    }
+
+    /**
+     * Constructor.
+     * @param world game to draw.
+     * @param width width of the camera, in game units.
+     * @param height height of the camera, in game units.
+     * @param batch batch to draw with (shared, not freed by dispose()).
+     * @param font font to draw the HUD with (shared, not freed by dispose()).
+     */
+    public GameRenderer(GameWorld world, float width, float height, SpriteBatch batch, BitmapFont font) {
         gameWorld = world;
         cam = new OrthographicCamera();
 
-        cam.setToOrtho(true, screen.width, screen.height);
-        font = new BitmapFont();
-        font.getData().setScale(0.7f,-0.7f);
-        batcher = new SpriteBatch();
-        shapeRenderer = new ShapeRenderer();
-        shapeRenderer.setProjectionMatrix(cam.combined);
+        cam.setToOrtho(true, width, height);
+        this.font = font;
+        batcher = batch;
+        circles = new CircleSprites();
+        staticLayer = new StaticLayer();
 
     }
 
-    public void render(float runTime) {
+    /**
+     * Draws the current state of gameWorld.
+     * @param runTime seconds since the GameScreen was created.
+     * @param alpha how far (from 0 to 1) this frame is between the last two physics steps, used to interpolate moving objects.
+     */
+    public void render(float runTime, float alpha) {
+        FrameProfiler profiler = gameWorld.getProfiler();
+        profiler.begin(Phase.SHAPES);
         batcher.setProjectionMatrix(cam.combined);
         cam.update();
 
@@ -50,71 +108,132 @@ public class GameRenderer {
         Gdx.gl.glClearColor(0, 0, 0, 1);
         Gdx.gl.glClear(GL20.GL_COLOR_BUFFER_BIT);
 
-        // Begin ShapeRenderer
-        shapeRenderer.begin(ShapeType.Filled);
-
-        // Draw Background color
-        shapeRenderer.setColor(55 / 255.0f, 80 / 255.0f, 100 / 255.0f, 1);
-        shapeRenderer.rect(0, 0,Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        // Draw Background color and GameArea, kept in a mesh rebuilt only after a slash
+        staticLayer.render(gameWorld.getGameArea(), Gdx.graphics.getWidth(), Gdx.graphics.getHeight(), cam.combined);
 
-        //Draw GameArea
-        shapeRenderer.setColor(255 / 255.0f, 255 / 255.0f, 255 / 255.0f, 1);
-        Vector2[] points = gameWorld.getGameArea().getPoints();
-        for(int i=0; i<points.length; i++) {
-            Vector2 a = points[i];
-            Vector2 b = points[i==points.length-1 ? 0 : i+1];
-            shapeRenderer.line(a.x,a.y,b.x,b.y);
-        }
+        // Moving objects, as circle sprites in one batch (the HUD text is drawn in the same batch)
+        batcher.begin();
 
         //Draw Redirecter
         Redirecter redirecter = gameWorld.getRedirecter();
         if(redirecter!=null)
         {
-            shapeRenderer.setColor(100/255f,0,1,1);
-            shapeRenderer.circle(redirecter.getPosition().x,redirecter.getPosition().y,redirecter.radius);
+            batcher.setColor(100/255f,0,1,1);
+            circles.drawCircle(batcher,redirecter.getPosition().x,redirecter.getPosition().y,redirecter.radius);
         }
 
         //Draw Slasher
-        shapeRenderer.setColor(255 / 255.0f, 255 / 255.0f, 0 / 255.0f, 1);
+        batcher.setColor(255 / 255.0f, 255 / 255.0f, 0 / 255.0f, 1);
         Vector2 fingerPos = gameWorld.getSlasher().getFinger();
         Vector2 slasherPos = gameWorld.getSlasher().getPosition();
-        shapeRenderer.circle(slasherPos.x,slasherPos.y,Ball.getRadius());
+        circles.drawCircle(batcher,slasherPos.x,slasherPos.y,Ball.getRadius());
         if(gameWorld.getSlasherIsMoving())
         {
             Vector2 tempSlasher = gameWorld.getSlasher().getBodyPosition();
-            shapeRenderer.circle(tempSlasher.x,tempSlasher.y,Ball.getRadius());
-            shapeRenderer.line(slasherPos,tempSlasher);
+            Vector2 previousSlasher = gameWorld.getSlasher().getPreviousBodyPosition();
+            float x = previousSlasher.x + (tempSlasher.x-previousSlasher.x)*alpha;
+            float y = previousSlasher.y + (tempSlasher.y-previousSlasher.y)*alpha;
+            circles.drawCircle(batcher,x,y,Ball.getRadius());
+            circles.drawLine(batcher,slasherPos.x,slasherPos.y,x,y,LINE_WIDTH);
         }
         else if(fingerPos!=null)
         {
             //draw future Slasher
-            shapeRenderer.circle(fingerPos.x,fingerPos.y,Ball.getRadius());
+            circles.drawCircle(batcher,fingerPos.x,fingerPos.y,Ball.getRadius());
             //draw line
-            shapeRenderer.line(slasherPos,fingerPos);
+            circles.drawLine(batcher,slasherPos.x,slasherPos.y,fingerPos.x,fingerPos.y,LINE_WIDTH);
         }
 
         //Draw Balls
-        shapeRenderer.setColor(255 / 255.0f, 255 / 255.0f, 255 / 255.0f, 1); //same color as gameArea
-        for(int i = 0; i< gameWorld.getBalls().size(); i++)
-            shapeRenderer.circle(gameWorld.getBalls().get(i).getBody().getPosition().x,
-                                gameWorld.getBalls().get(i).getBody().getPosition().y,
+        batcher.setColor(255 / 255.0f, 255 / 255.0f, 255 / 255.0f, 1); //same color as gameArea
+        BallSnapshot balls = gameWorld.getSnapshot();
+        for(int i = 0; i< balls.size(); i++) {
+            float previousX = balls.getPreviousX(i), previousY = balls.getPreviousY(i);
+            circles.drawCircle(batcher,
+                                previousX + (balls.getX(i)-previousX)*alpha,
+                                previousY + (balls.getY(i)-previousY)*alpha,
                                 Ball.getRadius());
+        }
+        profiler.end(Phase.SHAPES);
 
-        // End ShapeRenderer
-        shapeRenderer.end();
-
-        batcher.begin();
+        profiler.begin(Phase.HUD);
+        font.getData().setScale(0.7f,-0.7f); //the camera is flipped
         font.setColor(Color.YELLOW);
 
-        String highScoreText = "HIGHSCORE: "+gameWorld.getHighscore();
-        String scoreText = "SCORE: "+gameWorld.getScore();
-        String timer = "TIME: "+ gameWorld.getTimer();
-
-        font.draw(batcher,highScoreText,260,50);
-        font.draw(batcher, scoreText, 260, 100);
-        font.draw(batcher,timer,260, 150);
+        hud.update(gameWorld);
+        hud.getHighscore().draw(font,batcher,260,50);
+        hud.getScore().draw(font, batcher, 260, 100);
+        hud.getTimer().draw(font,batcher,260, 150);
 
+        if(profiler.isOverlayVisible())
+            drawProfilerOverlay(profiler);
 
         batcher.end();
+        profiler.end(Phase.HUD);
+    }
+
+    /**
+     * Draws the p50/p95/p99 frame times, in milliseconds, of each phase measured by the profiler,
+     * and the draw calls, vertices and native calls per frame.
+     * Must be called between batcher.begin() and batcher.end().
+     * @param profiler profiler to read from.
+     */
+    private void drawProfilerOverlay(FrameProfiler profiler) {
+        font.setColor(Color.GREEN);
+        float y = 5;
+        overlayText.setLength(0);
+        overlayText.append("ms  p50 p95 p99 (").append(profiler.getCount()).append(')');
+        font.draw(batcher, overlayText, 5, y);
+        for(Phase phase : Phase.values()) {
+            y += 10;
+            overlayText.setLength(0);
+            overlayText.append(phase.getLabel());
+            appendMillis(profiler.getPercentile(phase, 50));
+            appendMillis(profiler.getPercentile(phase, 95));
+            appendMillis(profiler.getPercentile(phase, 99));
+            font.draw(batcher, overlayText, 5, y);
+        }
+        y += 10;
+        overlayText.setLength(0);
+        overlayText.append("draws/frame ").append(profiler.getDrawCallsPercentile(50))
+                .append(' ').append(profiler.getDrawCallsPercentile(95))
+                .append(' ').append(profiler.getDrawCallsPercentile(99));
+        font.draw(batcher, overlayText, 5, y);
+        y += 10;
+        overlayText.setLength(0);
+        overlayText.append("verts/frame ").append(profiler.getVerticesPercentile(50))
+                .append(' ').append(profiler.getVerticesPercentile(95))
+                .append(' ').append(profiler.getVerticesPercentile(99));
+        font.draw(batcher, overlayText, 5, y);
+        y += 10;
+        overlayText.setLength(0);
+        overlayText.append("jni/frame ").append(profiler.getNativeCallsPercentile(50))
+                .append(' ').append(profiler.getNativeCallsPercentile(95))
+                .append(' ').append(profiler.getNativeCallsPercentile(99));
+        font.draw(batcher, overlayText, 5, y);
+    }
+
+    /**
+     * Frees the circle texture and static layer, and the batch and font if they are not shared.
+     */
+    public void dispose() {
+        staticLayer.dispose();
+        circles.dispose();
+        if(ownsBatch) {
+            batcher.dispose();
+            font.dispose();
+        }
+    }
+
+    /**
+     * Appends a time in milliseconds with two decimal places to overlayText.
+     * @param millis time to append.
+     */
+    private void appendMillis(float millis) {
+        int hundredths = Math.round(millis*100);
+        overlayText.append(' ').append(hundredths/100).append('.');
+        if(hundredths%100 < 10)
+            overlayText.append('0');
+        overlayText.append(hundredths%100);
     }
 }
@@ -1,31 +1,18 @@
 package com.lpoo.gameworld;
 
-import com.badlogic.gdx.Game;
-import com.badlogic.gdx.Gdx;
-import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.physics.box2d.World;
 import com.lpoo.gameobjects.Ball;
+import com.lpoo.gameobjects.BallPool;
 import com.lpoo.gameobjects.GameArea;
+import com.lpoo.gameobjects.GameAreaGeometry;
 import com.lpoo.gameobjects.Redirecter;
 import com.lpoo.gameobjects.Slasher;
-import com.lpoo.slash.GameOverScreen;
-import com.lpoo.slash.Slash;
-import com.lpoo.slashhelpers.Function;
-import com.lpoo.slashhelpers.Utilities;
-
-import java.io.BufferedReader;
-import java.io.BufferedWriter;
-import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.util.ArrayList;
-import java.util.Date;
-import java.util.Random;
+import com.lpoo.slashhelpers.FrameProfiler;
+import com.lpoo.slashhelpers.FrameProfiler.Phase;
+import com.lpoo.slashhelpers.RandomStream;
 
-import static com.lpoo.slashhelpers.Utilities.changeScreen;
+import java.util.ArrayList;
 
 /**
  * Created by Diogo on 26-04-2016.
@@ -35,13 +22,17 @@ import static com.lpoo.slashhelpers.Utilities.changeScreen;
 public class GameWorld {
 
     /**
-     * Game used for changing screen
+     * Events published by this game, dispatched to the consumers once per update
      */
-    private Game game;
+    private EventQueue events = new EventQueue();
     /**
      * World containing all object's bodies
      */
     private World world;
+    /**
+     * Moves the balls
+     */
+    private PhysicsBackend physics;
     /**
      * The "box" containing all balls
      */
@@ -54,6 +45,22 @@ public class GameWorld {
      * ArrayList with all the balls
      */
     private ArrayList<Ball> balls;
+    /**
+     * Positions and velocities of the balls after the last physics step, in the same order as balls
+     */
+    private BallSnapshot snapshot;
+    /**
+     * Grid of the balls in snapshot, to find the balls near a point, segment or triangle
+     */
+    private SpatialIndex spatialIndex;
+    /**
+     * Balls inside the triangle cut by the last slash
+     */
+    private CaptureMask captureMask = new CaptureMask();
+    /**
+     * Reuses the balls captured by slashes
+     */
+    private BallPool ballPool;
     /**
      * Redirecter, when it exists
      */
@@ -63,9 +70,9 @@ public class GameWorld {
      */
     private boolean slasherIsMoving=false;
     /**
-     * music running in the backgroud
+     * boolean for knowing if the game has ended, after which no more physics steps are done
      */
-    private Music music;
+    private boolean gameOver=false;
 
     /**
      * highest score achieved
@@ -77,42 +84,110 @@ public class GameWorld {
     public int score;
 
     /**
-     * Time in milisseconds at which the current gameArea was created.
+     * Simulated time, in seconds, since the current gameArea was created.
      */
-    private long gameAreaCreationTime;
+    private float gameAreaTime;
     /**
-     * The limit of seconds (counting from the gameArea creation) until which a slasher can be started. After that, game is over.
+     * Parameters of this game: timer limit, redirecter score limit, ball and slasher velocities.
      */
-    private int timerLimit;
+    private Difficulty difficulty;
     /**
      * how much time left to game over
      */
     private int timer;
+
+    /**
+     * Default number of physics steps per second.
+     */
+    public static final int DEFAULT_PHYSICS_RATE = 60;
+    /**
+     * Physics steps per second in low-power mode (e.g. Android's battery saver).
+     * The slasher's collisions are checked along each step's whole movement, so no hit is missed between two steps;
+     * Box2D's bounces do depend on the length of the step, so the balls don't follow exactly the same paths as at the default rate.
+     */
+    public static final int LOW_POWER_PHYSICS_RATE = 30;
+    /**
+     * Maximum number of physics steps done in a single update, so that a slow frame does not make the next ones even slower.
+     */
+    public static final int MAX_STEPS_PER_UPDATE = 5;
+    /**
+     * Balls created in advance when a game starts, so that the first slashes create no Box2D bodies.
+     */
+    public static final int BALL_POOL_SIZE = 8;
+    /**
+     * Duration, in seconds, of each physics step.
+     */
+    private float stepTime = 1f/DEFAULT_PHYSICS_RATE;
+    /**
+     * Frame time (in seconds) not yet simulated by the physics.
+     */
+    private float accumulator = 0;
+    /**
+     * How far (from 0 to 1) the rendered frame is between the last physics step and the next one.
+     */
+    private float alpha = 0;
+    /**
+     * Number of physics steps done since the game started.
+     */
+    private long ticks = 0;
+    /**
+     * Times the phases of each frame. Disabled unless someone is looking at it.
+     */
+    private FrameProfiler profiler = new FrameProfiler();
+    /**
+     * Calls into native code made by the physics backend until the last update, to count those of each frame.
+     */
+    private long nativeCalls = 0;
+    /**
+     * Source of every random number of this game.
+     */
+    private GameRandom random;
+
+    /**
+     * Default constructor. Needs no rendering, audio or files, so it can also be used to run games headless.
+     * What happens in the game is published to getEvents().
+     * @param highscore highest score achieved so far.
+     */
+    public GameWorld(int highscore) {
+        this(highscore, Difficulty.DEFAULT, System.nanoTime());
+    }
+
     /**
-     * name of the file containing the highest score
+     * Constructor for games with different parameters. Needs no rendering, audio or files, so it can also be used to run games headless.
+     * @param highscore highest score achieved so far.
+     * @param difficulty parameters of this game.
+     * @param seed seed of every random number of this game. The same seed, parameters and inputs always give the same game.
      */
-    private static final String filename="highscore.txt";
+    public GameWorld(int highscore, Difficulty difficulty, long seed) {
+        this(highscore, difficulty, seed, PhysicsBackend.Kind.BOX2D);
+    }
 
     /**
-     * Default constructor.
+     * Constructor for games with different parameters and physics. Needs no rendering, audio or files, so it can also be used to run games headless.
+     * @param highscore highest score achieved so far.
+     * @param difficulty parameters of this game.
+     * @param seed seed of every random number of this game. The same seed, parameters, physics and inputs always give the same game.
+     * @param physics backend moving the balls.
      */
-    public GameWorld(Game game) {
-        this.game=game;
+    public GameWorld(int highscore, Difficulty difficulty, long seed, PhysicsBackend.Kind physics) {
+        this.difficulty=difficulty;
+        random = new GameRandom(seed);
         //todos os objetos criados devem ter coordenadas entre (0,0) e (250,200), por razoes de scaling para o ecra (352,200)
         world = new World(new Vector2(0, 0), false); //mundo
+        this.physics = createPhysics(physics);
         Vector2 pt1=new Vector2(50,50),pt2=new Vector2(30,175),pt3=new Vector2(200,140),pt4=new Vector2(220,25);
         gameArea = new GameArea(pt1,pt2,pt3,pt4,this);
         slasher = new Slasher(pt1,this);
         balls = new ArrayList<Ball>();
+        ballPool = new BallPool(this.physics, difficulty.getBallVelocity(), random.getMovement());
+        snapshot = new BallSnapshot();
+        spatialIndex = new SpatialIndex(snapshot);
+        ballPool.prewarm(BALL_POOL_SIZE);
         createBalls(1);
         score = 0;
-        highscore=readScoreFile();
-        timerLimit=10;
-        gameAreaCreationTime=new Date().getTime();
-        music = Gdx.audio.newMusic(Gdx.files.internal("music.mp3"));
-        music.setLooping(true);
-        music.setVolume(0.3f);
-        music.play();
+        this.highscore=highscore;
+        gameAreaTime=0;
+        updateTimer(); //so a slash started before the first step does not see the timer at 0
     }
 
     /**
@@ -125,15 +200,46 @@ public class GameWorld {
      */
     public GameWorld(Vector2 pt1, Vector2 pt2, Vector2 pt3, Vector2 pt4, Vector2 slasherPos)
     {
+        this(pt1, pt2, pt3, pt4, slasherPos, PhysicsBackend.Kind.BOX2D);
+    }
+
+    /**
+     * Constructor used for JUnit4, with the given physics.
+     * @param pt1 corner in gameArea
+     * @param pt2 corner in gameArea
+     * @param pt3 corner in gameArea
+     * @param pt4 corner in gameArea
+     * @param slasherPos slasher position
+     * @param physics backend moving the balls.
+     */
+    public GameWorld(Vector2 pt1, Vector2 pt2, Vector2 pt3, Vector2 pt4, Vector2 slasherPos, PhysicsBackend.Kind physics)
+    {
+        difficulty=Difficulty.DEFAULT;
+        random=new GameRandom(System.nanoTime());
         world=new World(new Vector2(0, 0), false);
+        this.physics=createPhysics(physics);
         gameArea=new GameArea(pt1,pt2,pt3,pt4,this);
         slasher=new Slasher(slasherPos,this);
         balls = new ArrayList<Ball>();
+        ballPool = new BallPool(this.physics, difficulty.getBallVelocity(), random.getMovement());
+        snapshot = new BallSnapshot();
+        spatialIndex = new SpatialIndex(snapshot);
         createBalls(1);
         score = 0;
         highscore=0;
-        timerLimit=10;
-        gameAreaCreationTime =new Date().getTime();
+        gameAreaTime=0;
+        updateTimer();
+    }
+
+    /**
+     * @param kind backend to create.
+     * @return new backend moving the balls of this game.
+     */
+    private PhysicsBackend createPhysics(PhysicsBackend.Kind kind)
+    {
+        if(kind==PhysicsBackend.Kind.ARRAYS)
+            return new ArrayBackend(this);
+        return new Box2dBackend(world);
     }
 
     /**
@@ -141,91 +247,228 @@ public class GameWorld {
      */
     private void createBalls(int n)
     {
-        Random rand = new Random();
-        Vector2[] pts = gameArea.getPoints();
-        Vector2 pt1=pts[0],pt2=pts[1],pt3=pts[2],pt4=pts[3];
-
-        Function y2 = new Function(pts[0], pts[2]);
-        Function y1 = new Function(pts[1], pts[3]);
-        Vector2 center = y2.intersect(y1);
-
+        RandomStream rand = random.getSpawn();
+        GameAreaGeometry geometry = gameArea.getGeometry();
+        Vector2 center = geometry.getCenter();
+        float yMin=geometry.getInnerMinY(), yMax=geometry.getInnerMaxY();
 
         for(int i=0; i<n; i++)
         {
-            float xMin,xMax,yMin,yMax;
-
-            if(pt1.x>pt2.x) //esq
-                xMin=pt1.x;
-            else xMin=pt2.x;
-
-            if(pt3.x<pt4.x) //dir
-                xMax=pt3.x;
-            else xMax=pt4.x;
-
-            if(pt1.y>pt4.y) //cima
-                yMin=pt1.y;
-            else yMin=pt4.y;
-
-            if(pt2.y<pt3.y) //baixo
-                yMax=pt2.y;
-            else yMax=pt3.y;
-
-
             float x=center.x;
             float y=(yMax-yMin)*rand.nextFloat()/2+yMin;
 
-            balls.add(new Ball(x, y, world));
-            System.out.println("GameWorld::createBalls() - Ball created at ("+x+","+y+")");
+            addBall(x, y);
         }
     }
 
     /**
-     * Update function
-     * @param delta
+     * Adds a ball (from the pool) to the game, and to the snapshot, so that it is seen before the next step.
+     * @param x x of the ball.
+     * @param y y of the ball.
+     * @return ball added.
+     */
+    public Ball addBall(float x, float y)
+    {
+        Ball ball = ballPool.obtain(x, y);
+        balls.add(ball);
+        snapshot.add(ball);
+        return ball;
+    }
+
+    /**
+     * Advances the simulation by the time elapsed since the last frame, in fixed steps of stepTime.
+     * Time left over (smaller than a step) is kept for the next update and used to compute alpha.
+     * @param delta seconds elapsed since the last frame.
      */
     public void update(float delta) {
-        world.step(1f/60f, 6, 2);
+        accumulator += delta;
+
+        int steps = 0;
+        while(accumulator >= stepTime && steps < MAX_STEPS_PER_UPDATE && !gameOver)
+        {
+            tick();
+            accumulator -= stepTime;
+            steps++;
+        }
+        if(accumulator >= stepTime) //too far behind, the rest of the frame is dropped
+            accumulator %= stepTime;
+
+        alpha = accumulator/stepTime;
+        long calls = physics.getNativeCalls();
+        profiler.addNativeCalls(calls-nativeCalls);
+        nativeCalls = calls;
+        events.dispatch();
+    }
+
+    /**
+     * Advances the simulation by exactly one physics step.
+     * Used by update, and directly when running games without rendering (events are then only dispatched when the caller does so).
+     */
+    public void tick() {
+        profiler.begin(Phase.PHYSICS);
+        slasher.savePosition();
+
+        physics.step(stepTime);
+        slasher.endStep(stepTime);
+        snapshot.capture(balls);
+        ticks++;
+        gameAreaTime += stepTime;
+        profiler.end(Phase.PHYSICS);
 
         //update balls
-        for(int i=0; i<balls.size(); i++) {
-            balls.get(i).getBody().applyTorque(0, true);
-            if(redirecter!=null)
-                redirecter.attemptMoveBall(balls.get(i));
+        profiler.begin(Phase.REDIRECTER);
+        if(redirecter!=null)
+        {
+            Vector2 redirecterPosition = redirecter.getPosition();
+            int candidates = spatialIndex.queryCircle(redirecterPosition.x, redirecterPosition.y, Redirecter.radius+Ball.getRadius());
+            for(int k=0; k<candidates; k++)
+            {
+                int i = spatialIndex.getResult(k);
+                if(redirecter.attemptMoveBall(balls.get(i), snapshot.getX(i), snapshot.getY(i)))
+                    snapshot.updateVelocity(i, balls.get(i));
+            }
         }
+        profiler.end(Phase.REDIRECTER);
 
         //update slasher
         if(slasherIsMoving)
         {
-            String message=slasher.isMoving();
-            if(message=="Slasher End Reached")
+            profiler.begin(Phase.SLASHER);
+            Slasher.Status status=slasher.isMoving();
+            profiler.end(Phase.SLASHER);
+            if(status==Slasher.Status.END_REACHED)
             {
                 slasherIsMoving=false;
-                updateGameArea();
-                gameAreaCreationTime=new Date().getTime(); //reset timer
-                if(score>=redirecter.scoreLimit && redirecter==null)
-                    redirecter=new Redirecter(gameArea.getPoints());
-
-            } else if(message=="Game Over") {
+                profiler.begin(Phase.GEOMETRY);
+                int capturedBalls = updateGameArea();
+                profiler.end(Phase.GEOMETRY);
+                gameAreaTime=0; //reset timer
+                events.publish(GameEvent.SLASH_COMPLETED, capturedBalls, score);
+                if(score>=difficulty.getRedirecterScoreLimit() && redirecter==null) {
+                    redirecter=new Redirecter(gameArea.getGeometry(), random.getRedirecter());
+                    events.publish(GameEvent.REDIRECTER_SPAWNED, score, 0);
+                }
+            } else if(status==Slasher.Status.GAME_OVER) {
                 slasherIsMoving=false;
-                if (score > highscore)
-                    highscore = score;
-                updateScoreFile();
-                music.pause();
-                changeScreen(game, new GameOverScreen(game, score));
+                endGame();
             }
         }
         else updateTimer();
-        if(timer<=0)
+        if(timer<=0 && !gameOver)
         {
-            if (score > highscore)
-                highscore = score;
-            updateScoreFile();
-            changeScreen(game, new GameOverScreen(game, score));
-            music.pause();
+            events.publish(GameEvent.TIMER_EXPIRED, score, 0);
+            endGame();
         }
 
     }
 
+    /**
+     * Ends the game, updating the highscore. Called once, whether the slasher hit a ball or the timer ran out.
+     */
+    private void endGame() {
+        gameOver=true;
+        if (score > highscore)
+            highscore = score;
+        events.publish(GameEvent.GAME_OVER, score, highscore);
+    }
+
+    /**
+     * Changes how many physics steps are done per second (e.g. 30, 60 or 120), independently of the display rate.
+     * @param stepsPerSecond new physics rate.
+     */
+    public void setPhysicsRate(int stepsPerSecond) {
+        stepTime = 1f/stepsPerSecond;
+        accumulator = 0;
+    }
+
+    /**
+     *
+     * @return duration of each physics step, in seconds.
+     */
+    public float getStepTime() {
+        return stepTime;
+    }
+
+    /**
+     *
+     * @return alpha, to interpolate the rendered positions between the last two physics steps.
+     */
+    public float getAlpha() {
+        return alpha;
+    }
+
+    /**
+     *
+     * @return number of physics steps done since the game started.
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     *
+     * @return difficulty
+     */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     *
+     * @return positions and velocities of the balls after the last physics step.
+     */
+    public BallSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     *
+     * @return grid of the balls in the snapshot.
+     */
+    public SpatialIndex getSpatialIndex() {
+        return spatialIndex;
+    }
+
+    /**
+     *
+     * @return pool reusing the balls captured by slashes.
+     */
+    public BallPool getBallPool() {
+        return ballPool;
+    }
+
+    /**
+     *
+     * @return source of every random number of this game.
+     */
+    public GameRandom getRandom() {
+        return random;
+    }
+
+    /**
+     *
+     * @return events published by this game. Consumers are added here.
+     */
+    public EventQueue getEvents() {
+        return events;
+    }
+
+    /**
+     *
+     * @return profiler timing the phases of each frame.
+     */
+    public FrameProfiler getProfiler() {
+        return profiler;
+    }
+
+    /**
+     *
+     * @return backend moving the balls.
+     */
+    public PhysicsBackend getPhysics() {
+        return physics;
+    }
+
     /**
      *
      * @return world
@@ -298,10 +541,10 @@ public class GameWorld {
 
     /**
      *
-     * @return music
+     * @return true if the game has ended.
      */
-    public Music getMusic() {
-        return music;
+    public boolean isGameOver() {
+        return gameOver;
     }
 
     /**
@@ -320,40 +563,30 @@ public class GameWorld {
 
     /**
      * Called when the Slasher can (and will) cut the GameArea.
-     * Cuts the GameArea by recreating it and creating one more ball.
+     * Cuts the GameArea by moving the slashed corner (only the edges that change are updated) and creates one more ball.
+     * @return number of balls that were left out of the new GameArea.
      */
-    private void updateGameArea()
+    private int updateGameArea()
     {
-        Vector2[] points = new Vector2[4];
-        Vector2[] oldPoints = gameArea.getPoints();
         Vector2 newPoint = new Vector2(slasher.getFinger());
         Vector2[] pointsTriangle = new Vector2[3];
         pointsTriangle[0] = slasher.getPosition();
+        pointsTriangle[1] = gameArea.getToDelete();
+        pointsTriangle[2] = newPoint;
+        score++;
 
-        for( int j=0; j<4; j++)
-        {
-            if(gameArea.getToDelete()==oldPoints[j]){
-                points[j]=newPoint;
-                pointsTriangle[2] = newPoint;
-                pointsTriangle[1]=gameArea.getToDelete();
-                score++;
-            }
-            else points[j]=oldPoints[j];
-        }
-
-        //new objects
-        gameArea.dispose();
-        slasher = new Slasher(newPoint, this);
+        slasher.setPosition(newPoint);
         int counter = checkBalls(pointsTriangle);
 
-        gameArea=new GameArea(points[0],points[1],points[2],points[3],this);
+        //only the edges that changed are updated
+        gameArea.replacePoint(gameArea.getToDelete(), newPoint);
         createBalls(counter+1);
 
         if(redirecter!=null) //generates the redirecter if it is already in use
-            redirecter=new Redirecter(gameArea.getPoints());
+            redirecter=new Redirecter(gameArea.getGeometry(), random.getRedirecter());
         score += counter;
 
-
+        return counter;
     }
 
     /**
@@ -363,21 +596,17 @@ public class GameWorld {
      * @return number of balls that are out of the gameArea.
      */
     private int checkBalls(Vector2[] pointsTriangle){
-        int counter=0;
-
-        for (int i = balls.size()-1; i >= 0;i--) {
-            if (Utilities.pointInPolygon(pointsTriangle, balls.get(i))){
-                Gdx.app.log("bola esta fora", "bola esta fora");
-                Ball ball = balls.get(i);
-                balls.remove(i);
-                ball.dispose();
-                counter++;
-                //createBalls(1);
-                System.out.println("GameWorld::numero de bolas checadas"+balls.size());
-                System.out.println("GameWorld::createBalls() ");}
+        //one pass over every ball, then the captured ones are removed from the last, keeping the indices of the others valid
+        captureMask.setTriangle(pointsTriangle[0], pointsTriangle[1], pointsTriangle[2]);
+        int counter = captureMask.capture(snapshot);
+        for (int i = captureMask.previousCaptured(snapshot.size()); i >= 0; i = captureMask.previousCaptured(i)) {
+            Ball ball = balls.get(i);
+            events.publish(GameEvent.BALL_CAPTURED, Math.round(snapshot.getX(i)), Math.round(snapshot.getY(i)));
+            balls.remove(i);
+            snapshot.remove(i);
+            ballPool.free(ball);
         }
 
-
         return counter;
 
     }
@@ -393,45 +622,11 @@ public class GameWorld {
     }
 
     /**
-     * Attemps to read the file with the high score and return it.
-     * @return number in the file; 0 if file does not exist.
+     * Frees the World and all the bodies in it. The GameWorld can't be used afterwards.
      */
-    public static int readScoreFile()
+    public void dispose()
     {
-        BufferedReader reader = null;
-        int highscore=0;
-        try {
-            File file = new File(Slash.getFilesDir()+"/"+filename);
-            reader = new BufferedReader(new FileReader(file.getAbsoluteFile()));
-            highscore=reader.read();
-            reader.close();
-
-        } catch (FileNotFoundException e) {
-
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-        return highscore;
-    }
-
-    /**
-     * writes the current highscore to the the file
-     */
-    private void updateScoreFile()
-    {
-        BufferedWriter output = null;
-        try {
-            File file = new File(Slash.getFilesDir()+"/"+filename);
-            if(!file.exists())
-                file.createNewFile();
-            output = new BufferedWriter(new FileWriter(file.getAbsoluteFile()));
-            output.write(highscore);
-            System.out.println("Score file updated with success in " + Slash.getFilesDir() + " - " + file.getAbsoluteFile());
-            if (output != null)
-                output.close();
-        } catch ( IOException e ) {
-            e.printStackTrace();
-        }
+        world.dispose();
     }
 
     /**
@@ -439,9 +634,7 @@ public class GameWorld {
      */
     private void updateTimer()
     {
-        long currTime=new Date().getTime();
-        int diff=(int)(currTime-gameAreaCreationTime)/1000;
-        timer=timerLimit-diff;
+        timer=difficulty.getTimerLimit()-(int)gameAreaTime;
     }
 }
 
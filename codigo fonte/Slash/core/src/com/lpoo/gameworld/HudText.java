@@ -0,0 +1,47 @@
+package com.lpoo.gameworld;
+
+import com.lpoo.slashhelpers.HudField;
+
+/**
+ * Texts of the HUD drawn by GameRenderer (highscore, score and time), each a HudField
+ * that is only built and laid out again when its value changes, so that drawing them every frame creates no Strings.
+ * Updating them needs no OpenGL context, so it can be run without rendering (e.g. by the allocation tests).
+ */
+public class HudText {
+
+    private HudField highscore = new HudField("HIGHSCORE: "), score = new HudField("SCORE: "), timer = new HudField("TIME: ");
+
+    /**
+     * Rebuilds the texts whose values changed since the last call.
+     * @param gameWorld game whose values are shown.
+     */
+    public void update(GameWorld gameWorld) {
+        highscore.set(gameWorld.getHighscore());
+        score.set(gameWorld.getScore());
+        timer.set(gameWorld.getTimer());
+    }
+
+    /**
+     *
+     * @return highscore text.
+     */
+    public HudField getHighscore() {
+        return highscore;
+    }
+
+    /**
+     *
+     * @return score text.
+     */
+    public HudField getScore() {
+        return score;
+    }
+
+    /**
+     *
+     * @return time text.
+     */
+    public HudField getTimer() {
+        return timer;
+    }
+}
@@ -0,0 +1,95 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Moves the balls of a game. Each ball is known by the id given when it was created.
+ * The gameArea's walls, the slasher and its path are kept by the GameArea and the Slasher; each backend
+ * makes the balls bounce off them in its own way.
+ * Design Pattern: Strategy (chosen per game, see GameWorld)
+ */
+public interface PhysicsBackend {
+
+    /**
+     * Available backends.
+     */
+    enum Kind {
+        /**
+         * Box2D bodies (Box2dBackend). Balls also bounce off each other.
+         */
+        BOX2D,
+        /**
+         * Plain float arrays, in Java (ArrayBackend). Much faster with many balls.
+         */
+        ARRAYS
+    }
+
+    /**
+     *
+     * @return which backend this is.
+     */
+    Kind getKind();
+
+    /**
+     * Creates a new, active, ball standing still.
+     * @param x x component of the ball's position.
+     * @param y y component of the ball's position.
+     * @param halfSize half the side of the ball's box.
+     * @return id of the ball.
+     */
+    int createBall(float x, float y, float halfSize);
+
+    /**
+     * Inactive balls do not move nor collide, but are kept to be activated again.
+     * @param ball id of the ball.
+     * @param active true to activate the ball, false to deactivate it.
+     */
+    void setBallActive(int ball, boolean active);
+
+    /**
+     * Moves a ball to a new position, with no rotation.
+     * @param ball id of the ball.
+     * @param x x component of the new position.
+     * @param y y component of the new position.
+     */
+    void setBallPosition(int ball, float x, float y);
+
+    /**
+     * @param ball id of the ball.
+     * @param vx x component of the new velocity.
+     * @param vy y component of the new velocity.
+     */
+    void setBallVelocity(int ball, float vx, float vy);
+
+    /**
+     * @param ball id of the ball.
+     * @param out vector where the position is kept.
+     * @return out.
+     */
+    Vector2 getBallPosition(int ball, Vector2 out);
+
+    /**
+     * @param ball id of the ball.
+     * @param out vector where the velocity is kept.
+     * @return out.
+     */
+    Vector2 getBallVelocity(int ball, Vector2 out);
+
+    /**
+     * Destroys a ball. Its id may be given to a ball created afterwards.
+     * @param ball id of the ball.
+     */
+    void destroyBall(int ball);
+
+    /**
+     * Moves all the active balls (and the slasher) by one physics step.
+     * @param stepTime duration of the step, in seconds.
+     */
+    void step(float stepTime);
+
+    /**
+     *
+     * @return number of calls into native code (Box2D, through JNI) made by this backend so far.
+     */
+    long getNativeCalls();
+}
@@ -0,0 +1,194 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+
+import java.util.Arrays;
+
+/**
+ * Uniform grid over the logical field (250x200) with the balls of a BallSnapshot, so that proximity queries
+ * only look at the balls in the cells near the query instead of every ball.
+ *
+ * The grid is rebuilt (a counting sort of the balls by cell, with no allocation once the arrays are big enough)
+ * the first time it is queried after the snapshot changed. Queries give candidates: every ball that may be
+ * inside the queried region, in increasing index order, possibly with some that are not; callers do the exact test.
+ */
+public class SpatialIndex {
+
+    /**
+     * Side of each cell, in game units. A bit more than the largest query radius (the redirecter's reach).
+     */
+    public static final float CELL_SIZE = 10;
+    /**
+     * Size of the logical field covered by the grid. Balls outside it are kept in the border cells.
+     */
+    public static final float WIDTH = 250, HEIGHT = 200;
+
+    static final int COLUMNS = (int)Math.ceil(WIDTH/CELL_SIZE), ROWS = (int)Math.ceil(HEIGHT/CELL_SIZE);
+
+    private BallSnapshot snapshot;
+    /**
+     * Snapshot version the grid was built from.
+     */
+    private int builtVersion = -1;
+
+    /**
+     * cellStart[c] is the position in cellBalls of the first ball of cell c; cellStart[c+1] is past its last ball.
+     */
+    private int[] cellStart = new int[COLUMNS*ROWS+1];
+    /**
+     * Indices of the balls, grouped by cell (in increasing index order within a cell).
+     */
+    private int[] cellBalls = new int[16];
+    /**
+     * Cell of each ball.
+     */
+    private int[] ballCell = new int[16];
+    /**
+     * Candidates found by the last query.
+     */
+    private int[] results = new int[16];
+    private int resultCount;
+
+    /**
+     * Constructor.
+     * @param snapshot balls to index.
+     */
+    public SpatialIndex(BallSnapshot snapshot) {
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Builds the grid again if the snapshot changed since it was last built.
+     */
+    private void update() {
+        if(builtVersion == snapshot.getVersion())
+            return;
+        int n = snapshot.size();
+        if(cellBalls.length < n) {
+            cellBalls = new int[Math.max(n, cellBalls.length*2)];
+            ballCell = new int[cellBalls.length];
+        }
+
+        Arrays.fill(cellStart, 0);
+        for(int i=0; i<n; i++)
+        {
+            int cell = cell(column(snapshot.getX(i)), row(snapshot.getY(i)));
+            ballCell[i] = cell;
+            cellStart[cell+1]++;
+        }
+        for(int c=0; c<COLUMNS*ROWS; c++)
+            cellStart[c+1] += cellStart[c];
+        //cellStart[c] is used as the fill position of cell c, then shifted back
+        for(int i=0; i<n; i++)
+            cellBalls[cellStart[ballCell[i]]++] = i;
+        for(int c=COLUMNS*ROWS; c>0; c--)
+            cellStart[c] = cellStart[c-1];
+        cellStart[0] = 0;
+
+        builtVersion = snapshot.getVersion();
+    }
+
+    private static int column(float x) {
+        int column = (int)(x/CELL_SIZE);
+        return column < 0 ? 0 : column >= COLUMNS ? COLUMNS-1 : column;
+    }
+
+    private static int row(float y) {
+        int row = (int)(y/CELL_SIZE);
+        return row < 0 ? 0 : row >= ROWS ? ROWS-1 : row;
+    }
+
+    private static int cell(int column, int row) {
+        return row*COLUMNS + column;
+    }
+
+    /**
+     * Finds the balls that may be within a distance of a point.
+     * @param x x component of the point.
+     * @param y y component of the point.
+     * @param radius distance.
+     * @return number of candidates, read with getResult.
+     */
+    public int queryCircle(float x, float y, float radius) {
+        return queryBox(x-radius, y-radius, x+radius, y+radius);
+    }
+
+    /**
+     * Finds the balls that may be inside a polygon (e.g. the triangle cut by a slash).
+     * @param points vertices of the polygon.
+     * @return number of candidates, read with getResult.
+     */
+    public int queryPolygon(Vector2[] points) {
+        float minX = points[0].x, maxX = points[0].x, minY = points[0].y, maxY = points[0].y;
+        for(int i=1; i<points.length; i++)
+        {
+            minX = Math.min(minX, points[i].x);
+            maxX = Math.max(maxX, points[i].x);
+            minY = Math.min(minY, points[i].y);
+            maxY = Math.max(maxY, points[i].y);
+        }
+        return queryBox(minX, minY, maxX, maxY);
+    }
+
+    /**
+     * Finds the balls that may be within a distance of a segment (e.g. the slasher's movement in one step).
+     * Only the cells whose center is close enough to the segment are looked at.
+     * @param ax x component of the segment's start.
+     * @param ay y component of the segment's start.
+     * @param bx x component of the segment's end.
+     * @param by y component of the segment's end.
+     * @param radius distance.
+     * @return number of candidates, read with getResult.
+     */
+    public int querySegment(float ax, float ay, float bx, float by, float radius) {
+        update();
+        resultCount = 0;
+        int column0 = column(Math.min(ax, bx)-radius), column1 = column(Math.max(ax, bx)+radius);
+        int row0 = row(Math.min(ay, by)-radius), row1 = row(Math.max(ay, by)+radius);
+        //a cell can have balls within radius of the segment only if its center is within radius + half its diagonal
+        float reach = radius + CELL_SIZE*0.7072f;
+        float dx = bx-ax, dy = by-ay;
+        float length2 = dx*dx + dy*dy;
+        for(int row=row0; row<=row1; row++)
+            for(int column=column0; column<=column1; column++)
+            {
+                float cx = (column+0.5f)*CELL_SIZE - ax, cy = (row+0.5f)*CELL_SIZE - ay;
+                float t = length2 > 0 ? Math.max(0, Math.min(1, (cx*dx + cy*dy)/length2)) : 0;
+                float ex = cx - t*dx, ey = cy - t*dy;
+                boolean border = column==0 || row==0 || column==COLUMNS-1 || row==ROWS-1; //may hold balls outside the field
+                if(border || ex*ex + ey*ey <= reach*reach)
+                    addCell(cell(column, row));
+            }
+        Arrays.sort(results, 0, resultCount);
+        return resultCount;
+    }
+
+    private int queryBox(float minX, float minY, float maxX, float maxY) {
+        update();
+        resultCount = 0;
+        int column0 = column(minX), column1 = column(maxX);
+        int row0 = row(minY), row1 = row(maxY);
+        for(int row=row0; row<=row1; row++)
+            for(int column=column0; column<=column1; column++)
+                addCell(cell(column, row));
+        if(row1 > row0 || column1 > column0)
+            Arrays.sort(results, 0, resultCount);
+        return resultCount;
+    }
+
+    private void addCell(int cell) {
+        int start = cellStart[cell], end = cellStart[cell+1];
+        if(resultCount + end-start > results.length)
+            results = Arrays.copyOf(results, Math.max(resultCount + end-start, results.length*2));
+        for(int k=start; k<end; k++)
+            results[resultCount++] = cellBalls[k];
+    }
+
+    /**
+     * @param k from 0 to the number of candidates of the last query.
+     * @return index (in the snapshot) of the k-th candidate, in increasing order.
+     */
+    public int getResult(int k) {
+        return results[k];
+    }
+}
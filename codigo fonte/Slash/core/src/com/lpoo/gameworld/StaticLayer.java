@@ -0,0 +1,127 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.graphics.glutils.ImmediateModeRenderer20;
+import com.badlogic.gdx.graphics.glutils.ShaderProgram;
+import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.gameobjects.GameArea;
+import com.lpoo.gameobjects.GameAreaGeometry;
+
+/**
+ * The layers drawn every frame that only change when a slash completes (or the screen changes size):
+ * the background and the GameArea's outline. Their vertices are kept in a static Mesh (a VBO) and built again
+ * only when the GameArea has a new GameAreaGeometry, so each frame they cost one draw call and no vertex generation.
+ * They look as ShapeRenderer drew them in ShapeType.Filled (a rect, and lines as thin rects).
+ */
+public class StaticLayer {
+
+    /**
+     * Background (2 triangles) and the 4 edges of the outline (2 triangles each).
+     */
+    public static final int VERTICES = 6 + 4*6;
+    /**
+     * Width of the outline, the same as ShapeRenderer's lines in ShapeType.Filled.
+     */
+    static final float LINE_WIDTH = 0.75f;
+    /**
+     * x, y and the packed color of each vertex.
+     */
+    static final int FLOATS_PER_VERTEX = 3;
+
+    private static final float BACKGROUND = Color.toFloatBits(55 / 255.0f, 80 / 255.0f, 100 / 255.0f, 1);
+    private static final float OUTLINE = Color.toFloatBits(1f, 1f, 1f, 1f);
+
+    private Mesh mesh;
+    private ShaderProgram shader;
+    private float[] vertices = new float[VERTICES*FLOATS_PER_VERTEX];
+    /**
+     * Geometry and size the mesh was built for.
+     */
+    private GameAreaGeometry builtGeometry;
+    private float builtWidth, builtHeight;
+
+    /**
+     * Creates the mesh and its shader. Needs an OpenGL context.
+     */
+    public StaticLayer() {
+        mesh = new Mesh(true, VERTICES, 0,
+                new VertexAttribute(Usage.Position, 2, ShaderProgram.POSITION_ATTRIBUTE), VertexAttribute.ColorPacked());
+        shader = ImmediateModeRenderer20.createDefaultShader(false, true, 0);
+    }
+
+    /**
+     * Draws the background and the gameArea's outline, building the mesh again first if they changed.
+     * @param gameArea gameArea whose outline is drawn.
+     * @param width width of the background.
+     * @param height height of the background.
+     * @param projection camera's combined matrix.
+     */
+    public void render(GameArea gameArea, float width, float height, Matrix4 projection) {
+        if(gameArea.getGeometry() != builtGeometry || width != builtWidth || height != builtHeight) {
+            fill(vertices, gameArea.getPoints(), width, height);
+            mesh.setVertices(vertices);
+            builtGeometry = gameArea.getGeometry();
+            builtWidth = width;
+            builtHeight = height;
+        }
+        shader.begin();
+        shader.setUniformMatrix("u_projModelView", projection);
+        mesh.render(shader, GL20.GL_TRIANGLES);
+        shader.end();
+    }
+
+    /**
+     * Writes the vertices of the background and of the outline. Needs no OpenGL context.
+     * @param out where the VERTICES vertices are kept, FLOATS_PER_VERTEX floats each.
+     * @param points the gameArea's 4 points.
+     * @param width width of the background.
+     * @param height height of the background.
+     */
+    static void fill(float[] out, Vector2[] points, float width, float height) {
+        int k = 0;
+        k = vertex(out, k, 0, 0, BACKGROUND);
+        k = vertex(out, k, width, 0, BACKGROUND);
+        k = vertex(out, k, width, height, BACKGROUND);
+        k = vertex(out, k, width, height, BACKGROUND);
+        k = vertex(out, k, 0, height, BACKGROUND);
+        k = vertex(out, k, 0, 0, BACKGROUND);
+
+        for(int i=0; i<4; i++)
+        {
+            Vector2 a = points[i], b = points[i==3 ? 0 : i+1];
+            //half the width, perpendicular to the edge (as ShapeRenderer::rectLine)
+            float tx = b.y-a.y, ty = a.x-b.x;
+            float length = (float)Math.sqrt(tx*tx + ty*ty);
+            if(length > 0) {
+                tx *= LINE_WIDTH/2/length;
+                ty *= LINE_WIDTH/2/length;
+            }
+            k = vertex(out, k, a.x+tx, a.y+ty, OUTLINE);
+            k = vertex(out, k, a.x-tx, a.y-ty, OUTLINE);
+            k = vertex(out, k, b.x+tx, b.y+ty, OUTLINE);
+            k = vertex(out, k, b.x-tx, b.y-ty, OUTLINE);
+            k = vertex(out, k, b.x+tx, b.y+ty, OUTLINE);
+            k = vertex(out, k, a.x-tx, a.y-ty, OUTLINE);
+        }
+    }
+
+    private static int vertex(float[] out, int k, float x, float y, float color) {
+        out[k] = x;
+        out[k+1] = y;
+        out[k+2] = color;
+        return k+FLOATS_PER_VERTEX;
+    }
+
+    /**
+     * Frees the mesh and the shader.
+     */
+    public void dispose() {
+        mesh.dispose();
+        shader.dispose();
+    }
+}
@@ -0,0 +1,283 @@
+package com.lpoo.replay;
+
+import com.lpoo.gameworld.Difficulty;
+import com.lpoo.gameworld.PhysicsBackend;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * The inputs of one game, read from the binary format written by InputRecorder.
+ *
+ * Format: header (magic "SLR", version, seed, Difficulty, physics rate, physics backend), then one record per input.
+ * Each record starts with a varint holding the ticks since the previous record and the record type;
+ * a DRAG record is followed by the zigzag varint deltas of its x and y from the previous DRAG.
+ * Coordinates are kept in game units, quantized to 1/QUANTUM (the game uses the quantized values too,
+ * so replaying them gives exactly the same game).
+ */
+public class InputLog {
+
+    /**
+     * Finger dragged to a point (InputHandler::touchDragged).
+     */
+    public static final int DRAG = 0;
+    /**
+     * Finger released (InputHandler::touchUp).
+     */
+    public static final int RELEASE = 1;
+    /**
+     * Game over. Its x keeps the final score, to check replays against.
+     */
+    public static final int END = 2;
+
+    /**
+     * Steps per game unit of the recorded coordinates. A power of two, so quantized values are exact floats.
+     */
+    public static final int QUANTUM = 64;
+
+    static final byte[] MAGIC = {'S', 'L', 'R'};
+    static final int VERSION = 2;
+
+    private long seed;
+    private Difficulty difficulty;
+    private int physicsRate;
+    private PhysicsBackend.Kind physics;
+
+    private int size;
+    private long[] ticks;
+    private int[] types;
+    private int[] xs, ys;
+
+    private InputLog(int capacity) {
+        ticks = new long[capacity];
+        types = new int[capacity];
+        xs = new int[capacity];
+        ys = new int[capacity];
+    }
+
+    /**
+     * Reads a log written by InputRecorder.
+     * @param data bytes of the log.
+     * @return log read.
+     * @throws IllegalArgumentException if data is not a valid log.
+     */
+    public static InputLog read(byte[] data) {
+        Cursor in = new Cursor(data);
+        for(int i=0; i<MAGIC.length; i++)
+            if(in.readByte() != MAGIC[i])
+                throw new IllegalArgumentException("Not an input log");
+        int version = (int)in.readVarint();
+        if(version < 1 || version > VERSION)
+            throw new IllegalArgumentException("Unsupported input log version " + version);
+
+        long seed = in.readLong();
+        int timerLimit = (int)in.readVarint();
+        int redirecterScoreLimit = (int)in.readVarint();
+        float ballVelocity = Float.intBitsToFloat(in.readInt());
+        float slasherVelocity = Float.intBitsToFloat(in.readInt());
+        int physicsRate = (int)in.readVarint();
+        PhysicsBackend.Kind physics = PhysicsBackend.Kind.BOX2D; //version 1 logs were all played with Box2D
+        if(version >= 2) {
+            int kind = (int)in.readVarint();
+            if(kind >= PhysicsBackend.Kind.values().length)
+                throw new IllegalArgumentException("Unknown physics backend " + kind);
+            physics = PhysicsBackend.Kind.values()[kind];
+        }
+
+        InputLog log = new InputLog(16);
+        log.seed = seed;
+        log.difficulty = new Difficulty(timerLimit, redirecterScoreLimit, ballVelocity, slasherVelocity);
+        log.physicsRate = physicsRate;
+        log.physics = physics;
+
+        long tick = 0;
+        int x = 0, y = 0;
+        while(in.hasMore())
+        {
+            long head = in.readVarint();
+            int type = (int)(head & 3);
+            tick += head >>> 2;
+            if(type == DRAG) {
+                x += zigzagDecode(in.readVarint());
+                y += zigzagDecode(in.readVarint());
+                log.add(tick, type, x, y);
+            } else if(type == END) {
+                log.add(tick, type, zigzagDecode(in.readVarint()), 0);
+            } else if(type == RELEASE) {
+                log.add(tick, type, 0, 0);
+            } else throw new IllegalArgumentException("Unknown input log record " + type);
+        }
+        return log;
+    }
+
+    private void add(long tick, int type, int x, int y) {
+        if(size == ticks.length) { //a record takes from 1 byte (RELEASE) up, so the size can't be told from the data's
+            int capacity = size*2;
+            ticks = Arrays.copyOf(ticks, capacity);
+            types = Arrays.copyOf(types, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+        }
+        ticks[size] = tick;
+        types[size] = type;
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /**
+     *
+     * @return physics steps per second of the recorded game.
+     */
+    public int getPhysicsRate() {
+        return physicsRate;
+    }
+
+    /**
+     *
+     * @return backend that moved the balls of the recorded game.
+     */
+    public PhysicsBackend.Kind getPhysics() {
+        return physics;
+    }
+
+    /**
+     *
+     * @return number of records.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param i record index.
+     * @return tick (physics steps done) at which the record happened.
+     */
+    public long getTick(int i) {
+        return ticks[i];
+    }
+
+    /**
+     * @param i record index.
+     * @return DRAG, RELEASE or END.
+     */
+    public int getType(int i) {
+        return types[i];
+    }
+
+    /**
+     * @param i record index.
+     * @return quantized x of a DRAG, or final score of an END.
+     */
+    public int getX(int i) {
+        return xs[i];
+    }
+
+    /**
+     * @param i record index.
+     * @return quantized y of a DRAG.
+     */
+    public int getY(int i) {
+        return ys[i];
+    }
+
+    /**
+     *
+     * @return tick of the last record, or 0 if there are none.
+     */
+    public long getLastTick() {
+        return size > 0 ? ticks[size-1] : 0;
+    }
+
+    /**
+     *
+     * @return final score recorded, or -1 if the log has no END record (game did not finish).
+     */
+    public int getRecordedScore() {
+        return size > 0 && types[size-1] == END ? xs[size-1] : -1;
+    }
+
+    /**
+     * @param coordinate coordinate in game units.
+     * @return coordinate in 1/QUANTUM game units.
+     */
+    public static int quantize(float coordinate) {
+        return Math.round(coordinate*QUANTUM);
+    }
+
+    /**
+     * @param quantized coordinate in 1/QUANTUM game units.
+     * @return coordinate in game units.
+     */
+    public static float dequantize(int quantized) {
+        return quantized * (1f/QUANTUM);
+    }
+
+    static void writeVarint(ByteArrayOutputStream out, long value) {
+        while((value & ~0x7FL) != 0)
+        {
+            out.write((int)((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int)value);
+    }
+
+    static long zigzagEncode(int value) {
+        return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFFL;
+    }
+
+    static int zigzagDecode(long value) {
+        int v = (int)value;
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    /**
+     * Reads the primitive values of a log, in order.
+     */
+    private static class Cursor {
+        private byte[] data;
+        private int position = 0;
+
+        Cursor(byte[] data) {
+            this.data = data;
+        }
+
+        boolean hasMore() {
+            return position < data.length;
+        }
+
+        byte readByte() {
+            if(position >= data.length)
+                throw new IllegalArgumentException("Truncated input log");
+            return data[position++];
+        }
+
+        long readVarint() {
+            long value = 0;
+            for(int shift=0; shift<64; shift+=7)
+            {
+                byte b = readByte();
+                value |= (long)(b & 0x7F) << shift;
+                if((b & 0x80) == 0)
+                    return value;
+            }
+            throw new IllegalArgumentException("Malformed varint in input log");
+        }
+
+        int readInt() {
+            return (readByte() & 0xFF) << 24 | (readByte() & 0xFF) << 16 | (readByte() & 0xFF) << 8 | (readByte() & 0xFF);
+        }
+
+        long readLong() {
+            return (long)readInt() << 32 | (readInt() & 0xFFFFFFFFL);
+        }
+    }
+}
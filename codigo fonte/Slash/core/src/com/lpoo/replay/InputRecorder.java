@@ -0,0 +1,115 @@
+package com.lpoo.replay;
+
+import com.lpoo.gameworld.Difficulty;
+import com.lpoo.gameworld.GameWorld;
+import com.lpoo.gameworld.PhysicsBackend;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Writes the inputs of a game, stamped with the tick at which they happened, in the format read by InputLog.
+ * Together with the seed and Difficulty kept in the header, this is enough to replay the whole game headless.
+ */
+public class InputRecorder {
+
+    private ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+    private long lastTick = 0;
+    private int lastX = 0, lastY = 0;
+    private boolean ended = false;
+
+    /**
+     * Constructor. Writes the header with the parameters of the game about to be recorded.
+     * @param gameWorld game to record, before any step is done.
+     */
+    public InputRecorder(GameWorld gameWorld) {
+        this(gameWorld.getRandom().getSeed(), gameWorld.getDifficulty(), Math.round(1/gameWorld.getStepTime()),
+                gameWorld.getPhysics().getKind());
+    }
+
+    /**
+     * Constructor. Writes the header with the parameters of the game about to be recorded.
+     * @param seed seed of the game.
+     * @param difficulty parameters of the game.
+     * @param physicsRate physics steps per second of the game.
+     */
+    public InputRecorder(long seed, Difficulty difficulty, int physicsRate) {
+        this(seed, difficulty, physicsRate, PhysicsBackend.Kind.BOX2D);
+    }
+
+    /**
+     * Constructor. Writes the header with the parameters of the game about to be recorded.
+     * @param seed seed of the game.
+     * @param difficulty parameters of the game.
+     * @param physicsRate physics steps per second of the game.
+     * @param physics backend moving the balls of the game.
+     */
+    public InputRecorder(long seed, Difficulty difficulty, int physicsRate, PhysicsBackend.Kind physics) {
+        out.write(InputLog.MAGIC, 0, InputLog.MAGIC.length);
+        InputLog.writeVarint(out, InputLog.VERSION);
+        writeInt((int)(seed >>> 32));
+        writeInt((int)seed);
+        InputLog.writeVarint(out, difficulty.getTimerLimit());
+        InputLog.writeVarint(out, difficulty.getRedirecterScoreLimit());
+        writeInt(Float.floatToIntBits(difficulty.getBallVelocity()));
+        writeInt(Float.floatToIntBits(difficulty.getSlasherVelocity()));
+        InputLog.writeVarint(out, physicsRate);
+        InputLog.writeVarint(out, physics.ordinal());
+    }
+
+    /**
+     * Records the finger being dragged.
+     * @param tick physics steps done so far.
+     * @param x quantized x (see InputLog.quantize).
+     * @param y quantized y (see InputLog.quantize).
+     */
+    public void drag(long tick, int x, int y) {
+        if(!writeHead(tick, InputLog.DRAG))
+            return;
+        InputLog.writeVarint(out, InputLog.zigzagEncode(x-lastX));
+        InputLog.writeVarint(out, InputLog.zigzagEncode(y-lastY));
+        lastX = x;
+        lastY = y;
+    }
+
+    /**
+     * Records the finger being released.
+     * @param tick physics steps done so far.
+     */
+    public void release(long tick) {
+        writeHead(tick, InputLog.RELEASE);
+    }
+
+    /**
+     * Records the end of the game. Nothing else is recorded afterwards.
+     * @param tick physics steps done so far.
+     * @param score final score.
+     */
+    public void end(long tick, int score) {
+        if(writeHead(tick, InputLog.END))
+            InputLog.writeVarint(out, InputLog.zigzagEncode(score));
+        ended = true;
+    }
+
+    /**
+     *
+     * @return the log written so far.
+     */
+    public byte[] toByteArray() {
+        return out.toByteArray();
+    }
+
+    private boolean writeHead(long tick, int type) {
+        if(ended)
+            return false;
+        InputLog.writeVarint(out, (tick-lastTick) << 2 | type);
+        lastTick = tick;
+        return true;
+    }
+
+    private void writeInt(int value) {
+        out.write(value >>> 24);
+        out.write(value >>> 16);
+        out.write(value >>> 8);
+        out.write(value);
+    }
+}
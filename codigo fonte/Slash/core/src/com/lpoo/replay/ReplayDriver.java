@@ -0,0 +1,50 @@
+package com.lpoo.replay;
+
+import com.lpoo.simulation.SimulationResult;
+import com.lpoo.simulation.SimulationRunner;
+
+/**
+ * Replays recorded games headless, as fast as possible.
+ * Used to reproduce reported games, to profile real sessions and to check that changes do not alter recorded games.
+ */
+public class ReplayDriver {
+
+    /**
+     * Physics steps replayed after the last record of a game that did not end, before giving up.
+     */
+    public static final long EXTRA_TICKS = 60*60;
+
+    /**
+     * Replays a game until it ends.
+     * @param log inputs of the game.
+     * @return outcome of the replayed game.
+     */
+    public static SimulationResult replay(InputLog log) {
+        return replay(log, log.getPhysicsRate());
+    }
+
+    /**
+     * Replays a game until it ends, at another physics rate than the recorded one (e.g. to compare with the
+     * low-power rate). Each input is replayed at the same game time it was recorded.
+     * @param log inputs of the game.
+     * @param physicsRate physics steps per second of the replay.
+     * @return outcome of the replayed game.
+     */
+    public static SimulationResult replay(InputLog log, int physicsRate) {
+        ReplayPolicy policy = new ReplayPolicy(log, physicsRate);
+        SimulationRunner runner = new SimulationRunner(policy, log.getDifficulty(), log.getSeed(), log.getPhysics());
+        runner.getGameWorld().setPhysicsRate(physicsRate);
+        SimulationResult result = runner.run((log.getLastTick() + EXTRA_TICKS)*physicsRate/log.getPhysicsRate());
+        runner.getGameWorld().dispose();
+        return result;
+    }
+
+    /**
+     * @param log inputs of a finished game.
+     * @param result outcome of replaying it.
+     * @return true if the replay ended the game at the recorded tick, with the recorded score.
+     */
+    public static boolean matches(InputLog log, SimulationResult result) {
+        return result.gameOver && result.score == log.getRecordedScore() && result.ticks == log.getLastTick();
+    }
+}
@@ -0,0 +1,66 @@
+package com.lpoo.replay;
+
+import com.lpoo.gameworld.GameWorld;
+import com.lpoo.simulation.SlasherPolicy;
+import com.lpoo.slashhelpers.InputHandler;
+
+/**
+ * Plays a game with the inputs of an InputLog, each one at the tick it was recorded.
+ * The inputs go through the same InputHandler code as when playing, so the replayed game is the recorded one.
+ */
+public class ReplayPolicy implements SlasherPolicy {
+
+    private InputLog log;
+    /**
+     * Physics steps per second of the replayed game, which may differ from the recorded one.
+     */
+    private int physicsRate;
+    private InputHandler handler;
+    /**
+     * Index of the next record to replay.
+     */
+    private int next = 0;
+
+    /**
+     * Constructor.
+     * @param log inputs to replay.
+     */
+    public ReplayPolicy(InputLog log) {
+        this(log, log.getPhysicsRate());
+    }
+
+    /**
+     * Constructor, for replaying a game at another physics rate: each input is replayed at the first tick
+     * that is not earlier (in game time) than the recorded one.
+     * @param log inputs to replay.
+     * @param physicsRate physics steps per second of the replayed game.
+     */
+    public ReplayPolicy(InputLog log, int physicsRate) {
+        this.log = log;
+        this.physicsRate = physicsRate;
+    }
+
+    @Override
+    public void act(GameWorld gameWorld) {
+        if(handler == null)
+            handler = new InputHandler(gameWorld, null);
+        long tick = gameWorld.getTicks();
+        while(next < log.size() && log.getTick(next)*physicsRate <= tick*log.getPhysicsRate())
+        {
+            int type = log.getType(next);
+            if(type == InputLog.DRAG)
+                handler.drag(log.getX(next), log.getY(next));
+            else if(type == InputLog.RELEASE)
+                handler.release();
+            next++;
+        }
+    }
+
+    /**
+     *
+     * @return true once every record was replayed.
+     */
+    public boolean isFinished() {
+        return next >= log.size();
+    }
+}
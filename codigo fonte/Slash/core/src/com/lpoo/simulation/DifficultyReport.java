@@ -0,0 +1,42 @@
+package com.lpoo.simulation;
+
+import com.lpoo.gameworld.Difficulty;
+
+/**
+ * Score and survival time distributions of many games simulated with the same Difficulty.
+ */
+public class DifficultyReport {
+
+    public final Difficulty difficulty;
+    public final Distribution scores;
+    /**
+     * Simulated seconds each game lasted.
+     */
+    public final Distribution survivalTimes;
+    /**
+     * Real time, in nanoseconds, taken to simulate all the games.
+     */
+    public final long elapsedNanos;
+
+    public DifficultyReport(Difficulty difficulty, Distribution scores, Distribution survivalTimes, long elapsedNanos) {
+        this.difficulty = difficulty;
+        this.scores = scores;
+        this.survivalTimes = survivalTimes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     *
+     * @return games simulated per second of real time.
+     */
+    public double getGamesPerSecond() {
+        return elapsedNanos == 0 ? 0 : scores.getCount()*1e9/elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return difficulty + " (" + scores.getCount() + " games, " + (long)getGamesPerSecond() + " games/s)\n"
+                + "  score:    " + scores + "\n"
+                + "  survival: " + survivalTimes;
+    }
+}
@@ -0,0 +1,98 @@
+package com.lpoo.simulation;
+
+import com.lpoo.gameworld.Difficulty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Simulates many independent games in parallel, to see how the Difficulty parameters change the scores
+ * and the time players survive.
+ * Every game has its own GameWorld (and so its own Box2D World) and its own SlasherPolicy, and writes its
+ * result to its own slot of the result arrays, so the threads share no state.
+ */
+public class DifficultySimulator {
+
+    /**
+     * Number of tasks each thread gets, so that threads finishing early can take more work.
+     */
+    private static final int TASKS_PER_THREAD = 8;
+
+    private ExecutorService executor;
+    private int threads;
+
+    /**
+     * Constructor. Uses one thread per available processor.
+     */
+    public DifficultySimulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructor.
+     * @param threads number of games simulated at the same time.
+     */
+    public DifficultySimulator(int threads) {
+        this.threads = threads;
+        executor = Executors.newFixedThreadPool(threads);
+    }
+
+    /**
+     * Simulates games with the given parameters and blocks until all of them end.
+     * @param difficulty parameters of the games.
+     * @param games number of games.
+     * @param maxTicks maximum number of physics steps per game.
+     * @param seed game i uses seed+i, both for its random numbers and for its policy's, so a run can be repeated.
+     * @param policies creates the policy that plays each game.
+     * @return score and survival time distributions.
+     */
+    public DifficultyReport run(final Difficulty difficulty, int games, final long maxTicks, final long seed, final PolicyFactory policies) {
+        final float[] scores = new float[games];
+        final float[] survivalTimes = new float[games];
+
+        long start = System.nanoTime();
+        int tasks = Math.min(games, threads*TASKS_PER_THREAD);
+        List<Future<?>> futures = new ArrayList<Future<?>>(tasks);
+        for(int t=0; t<tasks; t++)
+        {
+            final int first = (int)((long)games*t/tasks), last = (int)((long)games*(t+1)/tasks);
+            futures.add(executor.submit(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    for(int i=first; i<last; i++) {
+                        SimulationRunner runner = new SimulationRunner(policies.create(seed+i), difficulty, seed+i);
+                        SimulationResult result = runner.run(maxTicks);
+                        scores[i] = result.score;
+                        survivalTimes[i] = result.survivalTime;
+                        runner.getGameWorld().dispose();
+                    }
+                    return null;
+                }
+            }));
+        }
+
+        try {
+            for(int t=0; t<futures.size(); t++)
+                futures.get(t).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        }
+
+        return new DifficultyReport(difficulty, new Distribution(scores), new Distribution(survivalTimes), System.nanoTime()-start);
+    }
+
+    /**
+     * Stops the threads. No more games can be simulated afterwards.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
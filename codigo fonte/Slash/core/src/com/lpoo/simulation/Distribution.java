@@ -0,0 +1,88 @@
+package com.lpoo.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Summary of a set of values: mean, standard deviation, percentiles and a histogram.
+ */
+public class Distribution {
+
+    /**
+     * Number of buckets in the histogram.
+     */
+    public static final int BUCKETS = 10;
+
+    private final float[] sorted;
+    private final double mean;
+    private final double standardDeviation;
+    private final int[] histogram;
+
+    /**
+     * Constructor.
+     * @param values values to summarize; the array is not changed.
+     */
+    public Distribution(float[] values) {
+        sorted = Arrays.copyOf(values, values.length);
+        Arrays.sort(sorted);
+
+        double sum = 0, squares = 0;
+        for(int i=0; i<sorted.length; i++) {
+            sum += sorted[i];
+            squares += sorted[i]*sorted[i];
+        }
+        mean = sorted.length == 0 ? 0 : sum/sorted.length;
+        standardDeviation = sorted.length == 0 ? 0 : Math.sqrt(Math.max(0, squares/sorted.length - mean*mean));
+
+        histogram = new int[BUCKETS];
+        float range = getMax() - getMin();
+        for(int i=0; i<sorted.length; i++) {
+            int bucket = range == 0 ? 0 : (int)((sorted[i]-getMin())/range*BUCKETS);
+            histogram[Math.min(bucket, BUCKETS-1)]++;
+        }
+    }
+
+    public int getCount() {
+        return sorted.length;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    public float getMin() {
+        return sorted.length == 0 ? 0 : sorted[0];
+    }
+
+    public float getMax() {
+        return sorted.length == 0 ? 0 : sorted[sorted.length-1];
+    }
+
+    /**
+     * @param p percentile, from 0 to 100.
+     * @return value below which p percent of the values are (nearest rank).
+     */
+    public float getPercentile(double p) {
+        if(sorted.length == 0)
+            return 0;
+        int rank = (int)Math.ceil(p/100*sorted.length);
+        return sorted[Math.min(Math.max(rank-1, 0), sorted.length-1)];
+    }
+
+    /**
+     * @return number of values in each of the BUCKETS equal-width buckets between min and max.
+     */
+    public int[] getHistogram() {
+        return histogram;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("mean=%.2f sd=%.2f min=%.1f p10=%.1f p50=%.1f p90=%.1f p99=%.1f max=%.1f histogram=%s",
+                mean, standardDeviation, getMin(), getPercentile(10), getPercentile(50), getPercentile(90),
+                getPercentile(99), getMax(), Arrays.toString(histogram));
+    }
+}
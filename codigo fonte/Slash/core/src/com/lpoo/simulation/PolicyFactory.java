@@ -0,0 +1,13 @@
+package com.lpoo.simulation;
+
+/**
+ * Creates a new SlasherPolicy for each simulated game, so that no policy is shared between games.
+ */
+public interface PolicyFactory {
+
+    /**
+     * @param seed seed for the policy's random choices, if it makes any.
+     * @return new policy.
+     */
+    SlasherPolicy create(long seed);
+}
@@ -0,0 +1,56 @@
+package com.lpoo.simulation;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.gameobjects.Slasher;
+import com.lpoo.gameworld.GameWorld;
+import com.lpoo.slashhelpers.RandomStream;
+
+/**
+ * Every few steps, drags the finger to a random point of the field and releases it,
+ * which starts a slash whenever that point can be slashed to.
+ */
+public class RandomSlasherPolicy implements SlasherPolicy {
+
+    /**
+     * Width and height of the field where the finger can be.
+     */
+    private static final float fieldWidth = 250, fieldHeight = 200;
+
+    private RandomStream rand;
+    /**
+     * Number of steps between two attempts.
+     */
+    private int interval;
+    /**
+     * Steps left until the next attempt.
+     */
+    private int wait;
+    /**
+     * Reused finger position, so no Vector2 is allocated per attempt.
+     */
+    private Vector2 finger = new Vector2();
+
+    /**
+     * Constructor.
+     * @param seed seed of the random attempts.
+     * @param interval number of steps between two attempts.
+     */
+    public RandomSlasherPolicy(long seed, int interval) {
+        rand = new RandomStream(seed);
+        this.interval = interval;
+        wait = interval;
+    }
+
+    @Override
+    public void act(GameWorld gameWorld) {
+        if(gameWorld.getSlasherIsMoving() || --wait > 0)
+            return;
+        wait = interval;
+
+        Slasher slasher = gameWorld.getSlasher();
+        slasher.setFinger(finger.set(fieldWidth*rand.nextFloat(), fieldHeight*rand.nextFloat())); //touchDragged
+        if(slasher.getFinger()!=null) //touchUp
+            gameWorld.startSlashMovement();
+        slasher.setFinger(null);
+    }
+}
@@ -0,0 +1,51 @@
+package com.lpoo.simulation;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.gameobjects.GameAreaGeometry;
+import com.lpoo.gameobjects.Slasher;
+import com.lpoo.gameworld.GameWorld;
+
+/**
+ * Waits a fixed number of steps after every slash and then slashes towards the middle of the GameArea,
+ * which can always be slashed to.
+ */
+public class ScriptedSlasherPolicy implements SlasherPolicy {
+
+    /**
+     * Number of steps waited before each slash.
+     */
+    private int delay;
+    /**
+     * Steps left until the next slash.
+     */
+    private int wait;
+    /**
+     * Reused finger position, so no Vector2 is allocated per slash.
+     */
+    private Vector2 finger = new Vector2();
+
+    /**
+     * Constructor.
+     * @param delay number of steps waited before each slash.
+     */
+    public ScriptedSlasherPolicy(int delay) {
+        this.delay = delay;
+        wait = delay;
+    }
+
+    @Override
+    public void act(GameWorld gameWorld) {
+        if(gameWorld.getSlasherIsMoving() || --wait > 0)
+            return;
+        wait = delay;
+
+        GameAreaGeometry geometry = gameWorld.getGameArea().getGeometry();
+        finger.set(geometry.getCentroidX(), geometry.getCentroidY());
+
+        Slasher slasher = gameWorld.getSlasher();
+        slasher.setFinger(finger); //touchDragged
+        if(slasher.getFinger()!=null) //touchUp
+            gameWorld.startSlashMovement();
+        slasher.setFinger(null);
+    }
+}
@@ -0,0 +1,61 @@
+package com.lpoo.simulation;
+
+/**
+ * Outcome of one game run by the SimulationRunner.
+ */
+public class SimulationResult {
+
+    /**
+     * Final score.
+     */
+    public final int score;
+    /**
+     * Number of completed slashes.
+     */
+    public final int slashes;
+    /**
+     * Number of physics steps done until the game ended (or was stopped).
+     */
+    public final long ticks;
+    /**
+     * Simulated time, in seconds, the game lasted.
+     */
+    public final float survivalTime;
+    /**
+     * True if the game ended, false if it was stopped by the steps limit.
+     */
+    public final boolean gameOver;
+    /**
+     * True if the game ended because the slasher hit a ball (and not because the timer ran out).
+     */
+    public final boolean hit;
+    /**
+     * Real time, in nanoseconds, taken to run the game.
+     */
+    public final long elapsedNanos;
+
+    public SimulationResult(int score, int slashes, long ticks, float survivalTime, boolean gameOver, boolean hit,
+                            long elapsedNanos) {
+        this.score = score;
+        this.slashes = slashes;
+        this.ticks = ticks;
+        this.survivalTime = survivalTime;
+        this.gameOver = gameOver;
+        this.hit = hit;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     *
+     * @return physics steps simulated per second of real time.
+     */
+    public double getTicksPerSecond() {
+        return elapsedNanos == 0 ? 0 : ticks*1e9/elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "score=" + score + ", slashes=" + slashes + ", ticks=" + ticks + ", survivalTime=" + survivalTime
+                + "s, gameOver=" + gameOver + (hit ? " (hit)" : "") + ", ticks/s=" + (long)getTicksPerSecond();
+    }
+}
@@ -0,0 +1,88 @@
+package com.lpoo.simulation;
+
+import com.lpoo.gameworld.Difficulty;
+import com.lpoo.gameworld.EventConsumer;
+import com.lpoo.gameworld.GameEvent;
+import com.lpoo.gameworld.GameWorld;
+import com.lpoo.gameworld.PhysicsBackend;
+
+/**
+ * Runs a GameWorld as fast as possible, with no rendering, no music and no screen changes.
+ * The slasher is moved by a SlasherPolicy instead of the user.
+ * Used for batch runs and profiling.
+ */
+public class SimulationRunner implements EventConsumer {
+
+    private GameWorld gameWorld;
+    private SlasherPolicy policy;
+    private int slashes;
+    private boolean timerExpired;
+
+    /**
+     * Constructor. Creates a new GameWorld for this run.
+     * @param policy plays the game in place of the user.
+     * @param seed seed of the game's random numbers.
+     */
+    public SimulationRunner(SlasherPolicy policy, long seed) {
+        this(policy, Difficulty.DEFAULT, seed);
+    }
+
+    /**
+     * Constructor. Creates a new GameWorld with the given parameters for this run.
+     * @param policy plays the game in place of the user.
+     * @param difficulty parameters of the game.
+     * @param seed seed of the game's random numbers. The same seed, parameters and policy always give the same game.
+     */
+    public SimulationRunner(SlasherPolicy policy, Difficulty difficulty, long seed) {
+        this(policy, difficulty, seed, PhysicsBackend.Kind.BOX2D);
+    }
+
+    /**
+     * Constructor. Creates a new GameWorld with the given parameters and physics for this run.
+     * @param policy plays the game in place of the user.
+     * @param difficulty parameters of the game.
+     * @param seed seed of the game's random numbers.
+     * @param physics backend moving the balls.
+     */
+    public SimulationRunner(SlasherPolicy policy, Difficulty difficulty, long seed, PhysicsBackend.Kind physics) {
+        this.policy = policy;
+        gameWorld = new GameWorld(0, difficulty, seed, physics);
+        gameWorld.getEvents().addConsumer(this);
+    }
+
+    /**
+     * Runs the game until it ends or until maxTicks physics steps are done.
+     * @param maxTicks maximum number of physics steps.
+     * @return outcome of the game.
+     */
+    public SimulationResult run(long maxTicks) {
+        long start = System.nanoTime();
+        while(!gameWorld.isGameOver() && gameWorld.getTicks() < maxTicks)
+        {
+            policy.act(gameWorld);
+            gameWorld.tick();
+            gameWorld.getEvents().dispatch();
+        }
+        long elapsed = System.nanoTime() - start;
+
+        return new SimulationResult(gameWorld.getScore(), slashes, gameWorld.getTicks(),
+                gameWorld.getTicks()*gameWorld.getStepTime(), gameWorld.isGameOver(),
+                gameWorld.isGameOver() && !timerExpired, elapsed);
+    }
+
+    @Override
+    public void onEvent(GameEvent event, int first, int second) {
+        if(event==GameEvent.SLASH_COMPLETED)
+            slashes++;
+        else if(event==GameEvent.TIMER_EXPIRED)
+            timerExpired = true;
+    }
+
+    /**
+     *
+     * @return GameWorld being run.
+     */
+    public GameWorld getGameWorld() {
+        return gameWorld;
+    }
+}
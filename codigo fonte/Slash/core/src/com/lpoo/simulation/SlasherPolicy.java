@@ -0,0 +1,16 @@
+package com.lpoo.simulation;
+
+import com.lpoo.gameworld.GameWorld;
+
+/**
+ * Plays the game in place of the user, when a GameWorld is run without rendering.
+ */
+public interface SlasherPolicy {
+
+    /**
+     * Called before every physics step, so the policy can move the finger or start a slash,
+     * exactly as the InputHandler would.
+     * @param gameWorld GameWorld being played.
+     */
+    void act(GameWorld gameWorld);
+}
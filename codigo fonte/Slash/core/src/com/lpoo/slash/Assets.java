@@ -0,0 +1,173 @@
+package com.lpoo.slash;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.g2d.TextureRegion;
+import com.badlogic.gdx.utils.Array;
+import com.lpoo.gameworld.GameRenderer;
+
+/**
+ * The game's assets, owned by Slash and shared by the screens.
+ * Textures and music are loaded by an AssetManager, which counts references: a screen acquires what it uses
+ * and releases it in dispose(), and an asset is only freed when nobody holds it any more.
+ * The assets every game goes through (menu and game over backgrounds, music) are preloaded in the background
+ * while the first screen is shown and held by Assets itself, so changing screens decodes nothing.
+ * There is also a single SpriteBatch and BitmapFont for all the screens.
+ */
+public class Assets {
+
+    public static final String MENU_BACKGROUND = "menu/background.png";
+    public static final String GAME_OVER_BACKGROUND = "gameover/background.png";
+    public static final String EASTER_EGG = "easteregg/animationSheet.png";
+    public static final String MUSIC = "music.mp3";
+
+    private AssetManager manager;
+    private SpriteBatch batch;
+    private BitmapFont font;
+
+    /**
+     * Creates the shared batch and font. Needs an OpenGL context.
+     */
+    public Assets() {
+        manager = new AssetManager();
+        batch = new SpriteBatch(GameRenderer.BATCH_SIZE);
+        font = new BitmapFont();
+    }
+
+    /**
+     * Starts loading, in the background, the assets every game uses, and holds them until dispose().
+     */
+    public void preload() {
+        manager.load(MENU_BACKGROUND, Texture.class);
+        manager.load(GAME_OVER_BACKGROUND, Texture.class);
+        manager.load(MUSIC, Music.class);
+    }
+
+    /**
+     * Goes on loading (decodes on another thread, uploads a bit on this one). To be called once per frame,
+     * and frames must keep being drawn until it returns true, even on screens drawn on demand.
+     * @return true if everything asked for is loaded.
+     */
+    public boolean update() {
+        return manager.update();
+    }
+
+    /**
+     * Gets an asset, waiting for it if it is still loading, and holds a reference to it until release().
+     * @param fileName asset's file.
+     * @param type asset's class.
+     * @param <T> asset's class.
+     * @return the asset.
+     */
+    public <T> T acquire(String fileName, Class<T> type) {
+        manager.load(fileName, type);
+        manager.finishLoadingAsset(fileName);
+        return manager.get(fileName, type);
+    }
+
+    /**
+     * Drops a reference taken with acquire(); the asset is freed if it was the last one.
+     * @param fileName asset's file.
+     */
+    public void release(String fileName) {
+        manager.unload(fileName);
+    }
+
+    /**
+     *
+     * @return batch shared by the screens (its projection must be set by each screen).
+     */
+    public SpriteBatch getBatch() {
+        return batch;
+    }
+
+    /**
+     *
+     * @return font shared by the screens (its scale and color must be set by each screen).
+     */
+    public BitmapFont getFont() {
+        return font;
+    }
+
+    /**
+     * @param fileName asset's file.
+     * @return references held to the asset; 0 if it is not loaded.
+     */
+    public int getReferences(String fileName) {
+        return manager.isLoaded(fileName) ? manager.getReferenceCount(fileName) : 0;
+    }
+
+    /**
+     * Lists each loaded asset with its references and the memory it holds: video memory for textures
+     * (nothing is kept on the heap once uploaded), nothing for music (streamed). The font's texture is counted too.
+     * @return one line per asset, and the totals.
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        long total = 0;
+        Array<String> names = manager.getAssetNames();
+        for(int i=0; i<names.size; i++)
+        {
+            String name = names.get(i);
+            Object asset = manager.get(name);
+            long bytes = asset instanceof Texture ? textureBytes((Texture)asset) : 0;
+            total += bytes;
+            report.append(name).append(" (").append(asset.getClass().getSimpleName()).append("): ")
+                    .append(manager.getReferenceCount(name)).append(" references, ").append(bytes/1024).append("KB VRAM\n");
+        }
+        long fontBytes = 0;
+        for(TextureRegion region : font.getRegions())
+            fontBytes += textureBytes(region.getTexture());
+        total += fontBytes;
+        report.append("font: ").append(fontBytes/1024).append("KB VRAM\n");
+        report.append("total: ").append(total/1024).append("KB VRAM, ")
+                .append((Runtime.getRuntime().totalMemory()-Runtime.getRuntime().freeMemory())/1024).append("KB heap in use");
+        return report.toString();
+    }
+
+    private static long textureBytes(Texture texture) {
+        return textureBytes(texture.getWidth(), texture.getHeight(), texture.getTextureData().getFormat());
+    }
+
+    /**
+     * @param width texture's width.
+     * @param height texture's height.
+     * @param format texture's format.
+     * @return bytes the texture takes in video memory (without mipmaps).
+     */
+    static long textureBytes(int width, int height, Pixmap.Format format) {
+        int bytesPerPixel;
+        switch(format) {
+            case Alpha:
+            case Intensity:
+                bytesPerPixel = 1;
+                break;
+            case LuminanceAlpha:
+            case RGB565:
+            case RGBA4444:
+                bytesPerPixel = 2;
+                break;
+            case RGB888:
+                bytesPerPixel = 3;
+                break;
+            default:
+                bytesPerPixel = 4;
+        }
+        return (long)width*height*bytesPerPixel;
+    }
+
+    /**
+     * Logs the report and frees every asset, the batch and the font.
+     */
+    public void dispose() {
+        Gdx.app.log("Assets", report());
+        manager.dispose();
+        batch.dispose();
+        font.dispose();
+    }
+}
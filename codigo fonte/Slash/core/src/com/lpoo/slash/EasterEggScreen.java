@@ -26,6 +26,10 @@ public class EasterEggScreen extends Resizer implements Screen {
     private TextureRegion currentFrame;
     private float stateTime;
     private final int frames = 4;
+    /**
+     * Drawn at the animation's rate (10 fps), not the display's.
+     */
+    private RenderPolicy renderPolicy;
 
     /**
      * Constructor.
@@ -38,7 +42,7 @@ public class EasterEggScreen extends Resizer implements Screen {
         camera=new OrthographicCamera();
         camera.setToOrtho(false, width, height);
 
-        walkSheet = new Texture(Gdx.files.internal("easteregg/animationSheet.png"));
+        walkSheet = Slash.getAssets().acquire(Assets.EASTER_EGG, Texture.class);
         TextureRegion[][] tmp = TextureRegion.split(walkSheet,walkSheet.getWidth()/frames,walkSheet.getHeight());
         walkFrames = new TextureRegion[frames];
         int index = 0;
@@ -46,7 +50,8 @@ public class EasterEggScreen extends Resizer implements Screen {
             walkFrames[index++] = tmp[0][i];
         }
         walkAnimation = new Animation(0.1f, walkFrames);
-        spriteBatch = new SpriteBatch();
+        renderPolicy = RenderPolicy.animated("EasterEggScreen", walkAnimation.getFrameDuration());
+        spriteBatch = Slash.getAssets().getBatch();
         stateTime = 0f;
     }
 
@@ -99,11 +104,12 @@ public class EasterEggScreen extends Resizer implements Screen {
 
     @Override
     public void show() {
-
+        renderPolicy.show();
     }
 
     @Override
     public void render(float delta) {
+        renderPolicy.beginFrame();
         spriteBatch.setProjectionMatrix(camera.combined);
         camera.update();
 
@@ -113,6 +119,7 @@ public class EasterEggScreen extends Resizer implements Screen {
         spriteBatch.begin();
         spriteBatch.draw(currentFrame,0,0,width,height);
         spriteBatch.end();
+        renderPolicy.endFrame();
     }
 
     @Override
@@ -132,11 +139,11 @@ public class EasterEggScreen extends Resizer implements Screen {
 
     @Override
     public void hide() {
-
+        renderPolicy.hide();
     }
 
     @Override
     public void dispose() {
-
+        Slash.getAssets().release(Assets.EASTER_EGG); //not preloaded, so freed here
     }
 }
@@ -12,7 +12,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
-import com.lpoo.gameworld.GameWorld;
+import com.lpoo.slashhelpers.HudField;
 import com.lpoo.slashhelpers.Utilities;
 
 
@@ -26,8 +26,17 @@ public class GameOverScreen extends Resizer implements Screen {
     private BitmapFont font;
     private SpriteBatch batch;
     private Sprite background;
+    /**
+     * Nothing moves here, so it is only drawn again on input.
+     */
+    private RenderPolicy renderPolicy = RenderPolicy.onDemand("GameOverScreen");
     private int score;
     private int highscore;
+    /**
+     * Texts shown, built once.
+     */
+    private HudField newHighscoreText = new HudField("NEW HIGHSCORE !! "), scoreText = new HudField("SCORE: "),
+            highscoreText = new HudField("HIGHSCORE: ");
 
     public GameOverScreen(Game game, int currentScore)
     {
@@ -35,12 +44,14 @@ public class GameOverScreen extends Resizer implements Screen {
         this.game=game;
         cam = new OrthographicCamera();
         cam.setToOrtho(false,width,height);
-        font = new BitmapFont();
-        font.getData().setScale(0.7f,0.7f);
-        batch=new SpriteBatch();
-        background=new Sprite(new Texture("gameover/background.png"));
+        font = Slash.getAssets().getFont();
+        batch = Slash.getAssets().getBatch();
+        background=new Sprite(Slash.getAssets().acquire(Assets.GAME_OVER_BACKGROUND, Texture.class));
         score=currentScore;
-        highscore=GameWorld.readScoreFile();
+        highscore=Slash.getScoreFile().read();
+        newHighscoreText.set(highscore);
+        scoreText.set(score);
+        highscoreText.set(highscore);
         implementTouchDetector();
     }
 
@@ -54,6 +65,7 @@ public class GameOverScreen extends Resizer implements Screen {
 
             @Override
             public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+                renderPolicy.requestRendering();
                 Vector2 finger = convertDimensions(new Vector2(screenX,screenY));
                 if(finger.y>180)
                 {
@@ -106,6 +118,7 @@ public class GameOverScreen extends Resizer implements Screen {
 
     @Override
     public void render(float delta) {
+        renderPolicy.beginFrame();
         cam.update();
 
         // Fill the entire screen with black, to prevent potential flickering.
@@ -116,30 +129,28 @@ public class GameOverScreen extends Resizer implements Screen {
         batch.begin();
 
         batch.draw(background, 0, 0, width, height);
+        font.getData().setScale(0.7f,0.7f);
         font.setColor(Color.YELLOW);
-        String newHighscoreText = "NEW HIGHSCORE !! "+ highscore;
-        String scoreText = "SCORE: "+score;
-        String highscoreText = "HIGHSCORE: "+highscore;
 
         if(score == highscore)
-            font.draw(batch, newHighscoreText, 150, 150);
+            newHighscoreText.draw(font, batch, 150, 150);
         else {
-            font.draw(batch, scoreText, 150, 150);
-            font.draw(batch, highscoreText, 150, 120);
+            scoreText.draw(font, batch, 150, 150);
+            highscoreText.draw(font, batch, 150, 120);
         }
 
         batch.end();
-
+        renderPolicy.endFrame();
     }
 
     @Override
     public void show() {
-
+        renderPolicy.show();
     }
 
     @Override
     public void resize(int width, int height) {
-
+        renderPolicy.requestRendering();
     }
 
     @Override
@@ -149,16 +160,16 @@ public class GameOverScreen extends Resizer implements Screen {
 
     @Override
     public void resume() {
-
+        renderPolicy.requestRendering();
     }
 
     @Override
     public void hide() {
-
+        renderPolicy.hide();
     }
 
     @Override
     public void dispose() {
-
+        Slash.getAssets().release(Assets.GAME_OVER_BACKGROUND);
     }
 }
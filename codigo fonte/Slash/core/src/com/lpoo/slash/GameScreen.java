@@ -7,21 +7,46 @@ package com.lpoo.slash;
 import com.badlogic.gdx.Game;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Screen;
+import com.badlogic.gdx.audio.Music;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.lpoo.gameworld.EventConsumer;
+import com.lpoo.gameworld.GameEvent;
 import com.lpoo.gameworld.GameRenderer;
 import com.lpoo.gameworld.GameWorld;
+import com.lpoo.replay.InputRecorder;
+import com.lpoo.slashhelpers.FrameProfiler;
+import com.lpoo.slashhelpers.FrameProfiler.Phase;
 import com.lpoo.slashhelpers.InputHandler;
+import com.lpoo.slashhelpers.ScoreFile;
 
-public class GameScreen extends Resizer implements Screen {
+import java.io.IOException;
+
+import static com.lpoo.slashhelpers.Utilities.changeScreen;
+
+public class GameScreen extends Resizer implements Screen, EventConsumer {
 
     private Game game; //to change Screens
     private GameWorld gameWorld;
     private GameRenderer renderer;
     private float runTime;
+    private Music music; //running in the background
+    private InputRecorder recorder; //inputs of this game, saved on game over so it can be replayed
+    private RenderPolicy renderPolicy = RenderPolicy.continuous("GameScreen"); //the game moves every frame
+    /**
+     * Screen to change to once the current frame is drawn (the game over screen), or null.
+     * The change can't happen while GameWorld::update dispatches the events, since it disposes this screen's renderer.
+     */
+    private Screen nextScreen;
+    /**
+     * File where the inputs of the last game are saved.
+     */
+    public static final String replayFilename = "replay.slr";
 
 
     public GameScreen(Game game) {
@@ -29,18 +54,82 @@ public class GameScreen extends Resizer implements Screen {
         System.out.println("GameScreen::GameScreen() - screenWidth = " + width +
                 ", screenHeight = " + height);
         this.game=game;
-        gameWorld = new GameWorld(game);
+        gameWorld = new GameWorld(Slash.getScoreFile().read());
+        if(Slash.isLowPower())
+            gameWorld.setPhysicsRate(GameWorld.LOW_POWER_PHYSICS_RATE);
+        gameWorld.getEvents().addConsumer(this);
+        music = Slash.getAssets().acquire(Assets.MUSIC, Music.class);
+        music.setLooping(true);
+        music.setVolume(0.3f);
+        music.play();
 
         renderer = new GameRenderer(gameWorld,this);
 
-        Gdx.input.setInputProcessor(new InputHandler(gameWorld, this));
+        recorder = new InputRecorder(gameWorld);
+        Gdx.input.setInputProcessor(new InputHandler(gameWorld, this, recorder));
     }
 
     @Override
     public void render(float delta) {
+        renderPolicy.beginFrame();
+        FrameProfiler profiler = gameWorld.getProfiler();
+        //GLProfiler wraps every GL call, so it only counts the draw calls and vertices while the overlay shows them
+        if(profiler.isOverlayVisible() != GLProfiler.isEnabled()) {
+            if(profiler.isOverlayVisible())
+                GLProfiler.enable();
+            else GLProfiler.disable();
+            GLProfiler.reset();
+        }
+        profiler.begin(Phase.FRAME);
         runTime += delta;
         gameWorld.update(delta);
-        renderer.render(runTime);
+        renderer.render(runTime, gameWorld.getAlpha());
+        profiler.end(Phase.FRAME);
+        if(GLProfiler.isEnabled()) {
+            profiler.addDrawCalls(GLProfiler.drawCalls, (long)GLProfiler.vertexCount.total);
+            GLProfiler.reset();
+        }
+        profiler.endFrame();
+        renderPolicy.endFrame();
+        if(nextScreen != null)
+            changeScreen(game, nextScreen);
+    }
+
+    @Override
+    public void onEvent(GameEvent event, int first, int second) {
+        if(event==GameEvent.GAME_OVER) {
+            saveScore(second);
+            saveReplay(first);
+            music.pause();
+            nextScreen = new GameOverScreen(game, first);
+        }
+    }
+
+    /**
+     * Saves the highscore, so that the next games and the menu show it.
+     * @param highscore highest score achieved.
+     */
+    private void saveScore(int highscore) {
+        ScoreFile scoreFile = Slash.getScoreFile();
+        try {
+            scoreFile.write(highscore);
+            Gdx.app.log("GameScreen", "Score file updated in " + scoreFile.getFile().getAbsolutePath());
+        } catch (IOException e) {
+            Gdx.app.error("GameScreen", "Could not save the score", e);
+        }
+    }
+
+    /**
+     * Saves the inputs of this game, so that it can be replayed (see desktop's ReplayLauncher).
+     * @param score final score.
+     */
+    private void saveReplay(int score) {
+        recorder.end(gameWorld.getTicks(), score);
+        try {
+            Gdx.files.local(replayFilename).writeBytes(recorder.toByteArray(), false);
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("GameScreen", "Could not save the replay", e);
+        }
     }
 
     @Override
@@ -51,11 +140,13 @@ public class GameScreen extends Resizer implements Screen {
     @Override
     public void show() {
         System.out.println("GameScreen - show called");
+        renderPolicy.show();
     }
 
     @Override
     public void hide() {
         System.out.println("GameScreen - hide called");
+        renderPolicy.hide();
     }
 
     @Override
@@ -70,7 +161,10 @@ public class GameScreen extends Resizer implements Screen {
 
     @Override
     public void dispose() {
-        // Leave blank
+        music.stop();
+        Slash.getAssets().release(Assets.MUSIC);
+        renderer.dispose();
+        GLProfiler.disable();
     }
 
 }
\ No newline at end of file
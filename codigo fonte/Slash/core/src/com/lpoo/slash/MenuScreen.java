@@ -12,7 +12,7 @@ import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.Sprite;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.math.Vector2;
-import com.lpoo.gameworld.GameWorld;
+import com.lpoo.slashhelpers.HudField;
 import com.lpoo.slashhelpers.Utilities;
 
 import java.util.ArrayList;
@@ -42,6 +42,14 @@ public class MenuScreen extends Resizer implements Screen {
      * Sprite with this Screen's backgroud.
      */
     private Sprite background;
+    /**
+     * Nothing moves here, so it is only drawn again on input.
+     */
+    private RenderPolicy renderPolicy = RenderPolicy.onDemand("MenuScreen");
+    /**
+     * Highscore text, built once (the highscore can't change while in the menu).
+     */
+    private HudField highScore = new HudField(" HIGHSCORE : ");
 
     /**
      * Constructor.
@@ -53,10 +61,10 @@ public class MenuScreen extends Resizer implements Screen {
         this.game=game;
         cam = new OrthographicCamera();
         cam.setToOrtho(false,width,height); //width e height are from Resizer
-        font = new BitmapFont();
-        font.getData().setScale(0.7f,0.7f);
-        batch=new SpriteBatch();
-        background=new Sprite(new Texture("menu/background.png"));
+        font = Slash.getAssets().getFont();
+        batch = Slash.getAssets().getBatch();
+        background=new Sprite(Slash.getAssets().acquire(Assets.MENU_BACKGROUND, Texture.class));
+        highScore.set(Slash.getScoreFile().read());
         implementTouchDetector();
     }
 
@@ -71,6 +79,7 @@ public class MenuScreen extends Resizer implements Screen {
 
             @Override
             public boolean touchUp(int screenX, int screenY, int pointer, int button) {
+                renderPolicy.requestRendering();
                 Vector2 finger = convertDimensions(new Vector2(screenX, screenY));
                 if (finger.y > 123 && finger.y < 168) {
                     if (finger.x > 25 && finger.x < 398)
@@ -132,6 +141,7 @@ public class MenuScreen extends Resizer implements Screen {
 
     @Override
     public void render(float delta) {
+        renderPolicy.beginFrame();
         cam.update();
 
         // Fill the entire screen with black, to prevent potential flickering.
@@ -140,22 +150,23 @@ public class MenuScreen extends Resizer implements Screen {
 
         batch.setProjectionMatrix(cam.combined); //or your matrix to draw GAME WORLD, not UI
         batch.begin();
+        font.getData().setScale(0.7f,0.7f);
         font.setColor(Color.YELLOW);
 
         batch.draw(background, 0, 0, width, height);
-        String highScore = " HIGHSCORE : "+ GameWorld.readScoreFile();
-        font.draw(batch, highScore,175, 50);
+        highScore.draw(font, batch,175, 50);
         batch.end();
+        renderPolicy.endFrame();
     }
 
     @Override
     public void show() {
-
+        renderPolicy.show();
     }
 
     @Override
     public void resize(int width, int height) {
-
+        renderPolicy.requestRendering();
     }
 
     @Override
@@ -165,16 +176,16 @@ public class MenuScreen extends Resizer implements Screen {
 
     @Override
     public void resume() {
-
+        renderPolicy.requestRendering();
     }
 
     @Override
     public void hide() {
-
+        renderPolicy.hide();
     }
 
     @Override
     public void dispose() {
-
+        Slash.getAssets().release(Assets.MENU_BACKGROUND);
     }
 }
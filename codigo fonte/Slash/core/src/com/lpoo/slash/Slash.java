@@ -1,7 +1,9 @@
 package com.lpoo.slash;
 
 import com.badlogic.gdx.Game;
+import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.math.Vector2;
+import com.lpoo.slashhelpers.ScoreFile;
 
 
 import java.io.File;
@@ -10,28 +12,77 @@ public class Slash extends Game {
 
     public static final Vector2 screenDimensions = new Vector2(352,200);
     private static File filesDir;
+    /**
+     * True to run the physics at GameWorld.LOW_POWER_PHYSICS_RATE, to save battery (same physics, fewer and longer steps).
+     */
+    private static boolean lowPower;
+    /**
+     * Textures, music, batch and font shared by the screens.
+     */
+    private static Assets assets;
 
     public Slash(File fileDir)
+    {
+        this(fileDir, false);
+    }
+
+    public Slash(File fileDir, boolean lowPower)
     {
         filesDir=fileDir;
+        Slash.lowPower=lowPower;
     }
     public static File getFilesDir() {
         return filesDir;
     }
 
+    /**
+     *
+     * @return file with the highscore, in the files directory.
+     */
+    public static ScoreFile getScoreFile() {
+        return new ScoreFile(filesDir);
+    }
+
+    /**
+     *
+     * @return true if the game runs in low-power mode.
+     */
+    public static boolean isLowPower() {
+        return lowPower;
+    }
+
+    /**
+     *
+     * @return the game's assets (created in create()).
+     */
+    public static Assets getAssets() {
+        return assets;
+    }
+
     public Slash()
     {}
 
     @Override
     public void create() {
         System.out.println("Slash Game Created!");
+        assets = new Assets();
+        assets.preload(); //loaded while the menu is shown
 
         setScreen(new MenuScreen(this));
     }
 
+    @Override
+    public void render() {
+        if(!assets.update())
+            Gdx.graphics.requestRendering(); //on-demand screens would otherwise stop the loading until the next input
+        super.render();
+    }
+
     @Override
     public void dispose() {
         super.dispose();
-
+        if(getScreen() != null)
+            getScreen().dispose();
+        assets.dispose();
     }
 }
\ No newline at end of file
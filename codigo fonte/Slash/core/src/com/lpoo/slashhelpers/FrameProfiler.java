@@ -0,0 +1,232 @@
+package com.lpoo.slashhelpers;
+
+import java.util.Arrays;
+
+/**
+ * Times the phases of each frame with System.nanoTime and keeps the last SAMPLES frames of each phase
+ * in fixed-size ring buffers, from which p50/p95/p99 can be read. Nothing is allocated while measuring.
+ * The calls into native code (JNI) made by the physics in each frame, and the OpenGL draw calls and vertices,
+ * are kept the same way.
+ * Does nothing while disabled, so it can be left in the code paths used headless.
+ */
+public class FrameProfiler {
+
+    /**
+     * The measured phases of a frame.
+     */
+    public enum Phase {
+        PHYSICS("physics"), REDIRECTER("redirecter"), SLASHER("slasher"), GEOMETRY("geometry"),
+        SHAPES("shapes"), HUD("hud"), FRAME("frame");
+
+        private final String label;
+
+        Phase(String label) {
+            this.label = label;
+        }
+
+        /**
+         *
+         * @return name shown in the overlay.
+         */
+        public String getLabel() {
+            return label;
+        }
+    }
+
+    /**
+     * Number of frames kept for each phase.
+     */
+    public static final int SAMPLES = 240;
+
+    private static final Phase[] phases = Phase.values();
+
+    /**
+     * Ring buffers, one per phase, with the nanoseconds spent in the phase in each of the last frames.
+     */
+    private final long[][] samples = new long[phases.length][SAMPLES];
+    /**
+     * Nanoseconds spent in each phase in the current frame (a phase can run more than once per frame).
+     */
+    private final long[] current = new long[phases.length];
+    /**
+     * Time at which each phase was last begun.
+     */
+    private final long[] started = new long[phases.length];
+    /**
+     * Ring buffer with the native calls made in each of the last frames.
+     */
+    private final long[] nativeSamples = new long[SAMPLES];
+    /**
+     * Native calls made in the current frame.
+     */
+    private long currentNative = 0;
+    /**
+     * Ring buffers with the OpenGL draw calls and the vertices drawn in each of the last frames.
+     */
+    private final long[] drawCallSamples = new long[SAMPLES], vertexSamples = new long[SAMPLES];
+    /**
+     * Draw calls and vertices of the current frame.
+     */
+    private long currentDrawCalls = 0, currentVertices = 0;
+    /**
+     * Used to sort a phase's samples without changing the ring buffer.
+     */
+    private final long[] sorted = new long[SAMPLES];
+    /**
+     * Position in the ring buffers where the next frame will be kept.
+     */
+    private int next = 0;
+    /**
+     * Number of frames kept so far (up to SAMPLES).
+     */
+    private int count = 0;
+
+    private boolean enabled = false;
+    private boolean overlayVisible = false;
+
+    /**
+     * Marks the start of a phase.
+     * @param phase phase starting.
+     */
+    public void begin(Phase phase) {
+        if(enabled)
+            started[phase.ordinal()] = System.nanoTime();
+    }
+
+    /**
+     * Marks the end of a phase, adding the time since begin to the current frame.
+     * @param phase phase ending.
+     */
+    public void end(Phase phase) {
+        if(enabled)
+            current[phase.ordinal()] += System.nanoTime() - started[phase.ordinal()];
+    }
+
+    /**
+     * Adds native calls to the current frame.
+     * @param calls number of calls into native code.
+     */
+    public void addNativeCalls(long calls) {
+        if(enabled)
+            currentNative += calls;
+    }
+
+    /**
+     * Adds OpenGL work to the current frame (e.g. read from GLProfiler).
+     * @param drawCalls number of draw calls.
+     * @param vertices number of vertices drawn.
+     */
+    public void addDrawCalls(long drawCalls, long vertices) {
+        if(enabled) {
+            currentDrawCalls += drawCalls;
+            currentVertices += vertices;
+        }
+    }
+
+    /**
+     * Keeps the times of the current frame in the ring buffers and starts a new frame.
+     */
+    public void endFrame() {
+        if(!enabled)
+            return;
+        for(int i=0; i<phases.length; i++) {
+            samples[i][next] = current[i];
+            current[i] = 0;
+        }
+        nativeSamples[next] = currentNative;
+        currentNative = 0;
+        drawCallSamples[next] = currentDrawCalls;
+        vertexSamples[next] = currentVertices;
+        currentDrawCalls = 0;
+        currentVertices = 0;
+        next = (next+1) % SAMPLES;
+        if(count < SAMPLES)
+            count++;
+    }
+
+    /**
+     * @param phase phase to read.
+     * @param percentile from 0 to 100.
+     * @return time, in milliseconds, under which the phase took that percentage of the kept frames.
+     */
+    public float getPercentile(Phase phase, float percentile) {
+        return percentile(samples[phase.ordinal()], percentile) / 1e6f;
+    }
+
+    /**
+     * @param percentile from 0 to 100.
+     * @return number of native calls under which that percentage of the kept frames stayed.
+     */
+    public long getNativeCallsPercentile(float percentile) {
+        return percentile(nativeSamples, percentile);
+    }
+
+    /**
+     * @param percentile from 0 to 100.
+     * @return number of draw calls under which that percentage of the kept frames stayed.
+     */
+    public long getDrawCallsPercentile(float percentile) {
+        return percentile(drawCallSamples, percentile);
+    }
+
+    /**
+     * @param percentile from 0 to 100.
+     * @return number of vertices drawn under which that percentage of the kept frames stayed.
+     */
+    public long getVerticesPercentile(float percentile) {
+        return percentile(vertexSamples, percentile);
+    }
+
+    private long percentile(long[] ring, float percentile) {
+        if(count == 0)
+            return 0;
+        System.arraycopy(ring, 0, sorted, 0, count);
+        Arrays.sort(sorted, 0, count);
+        int rank = (int)Math.ceil(percentile/100*count);
+        return sorted[Math.min(Math.max(rank-1, 0), count-1)];
+    }
+
+    /**
+     *
+     * @return number of frames kept so far (up to SAMPLES).
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Clears all the kept frames.
+     */
+    public void reset() {
+        for(int i=0; i<phases.length; i++)
+            current[i] = 0;
+        currentNative = 0;
+        currentDrawCalls = 0;
+        currentVertices = 0;
+        next = 0;
+        count = 0;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isOverlayVisible() {
+        return overlayVisible;
+    }
+
+    /**
+     * Shows or hides the on-screen overlay with the percentiles of each phase.
+     * Frames are only measured while it is shown, starting again from none each time.
+     */
+    public void toggleOverlay() {
+        overlayVisible = !overlayVisible;
+        if(overlayVisible)
+            reset();
+        enabled = overlayVisible;
+    }
+}
@@ -5,8 +5,10 @@ import com.badlogic.gdx.math.Vector2;
 /**
  * Created by Diogo on 10-05-2016.
  * Creates a function of type: y=m*x+b. Can also detect intersections.
+ * Can't represent vertical lines and allocates on every intersection; use Line and Geometry instead.
  * Design Pattern: Facade
  */
+@Deprecated
 public class Function {
 
     /**
@@ -84,7 +86,7 @@ public class Function {
 
     /**
      * Intersects the two functions and returns the point of intersection.
-     * If intersection is not inside the bound (min and max), returns null.
+     * If intersection is not inside the bound (min and max), or can't be computed (vertical or parallel lines), returns null.
      *
      * @param f Function to intersect with
      * @return Point where both functions intersect or null (see above).
@@ -96,6 +98,8 @@ public class Function {
 
         if (point.x < min.x || point.x > max.x || point.y < min.y || point.y > max.y) //if out of bounds
             return null;
+        if (Float.isNaN(point.x) || Float.isNaN(point.y)) //vertical or parallel lines
+            return null;
         return point;
     }
 
@@ -0,0 +1,82 @@
+package com.lpoo.slashhelpers;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Orientation and intersection tests on points given by their coordinates.
+ * Results are written into vectors given by the caller, so nothing is allocated; vertical and horizontal
+ * segments are handled like any other.
+ */
+public final class Geometry {
+
+    private Geometry() {
+    }
+
+    /**
+     * @return positive if a, b and c turn counterclockwise (c on the left of a->b), negative if clockwise,
+     * 0 if they are on the same line. Twice the signed area of the triangle.
+     */
+    public static float orientation(float ax, float ay, float bx, float by, float cx, float cy) {
+        return (bx-ax)*(cy-ay) - (by-ay)*(cx-ax);
+    }
+
+    /**
+     * Intersects segment a-b with segment c-d.
+     * @param out where the intersection is kept. Unchanged if there is none.
+     * @return false if the segments do not cross (or are parallel).
+     */
+    public static boolean segmentIntersection(float ax, float ay, float bx, float by,
+                                              float cx, float cy, float dx, float dy, Vector2 out) {
+        float rx = bx-ax, ry = by-ay, sx = dx-cx, sy = dy-cy;
+        float denominator = rx*sy - ry*sx;
+        if(denominator == 0)
+            return false;
+        float qx = cx-ax, qy = cy-ay;
+        float t = (qx*sy - qy*sx)/denominator; //along a-b
+        float u = (qx*ry - qy*rx)/denominator; //along c-d
+        if(t < 0 || t > 1 || u < 0 || u > 1)
+            return false;
+        out.set(ax + t*rx, ay + t*ry);
+        return true;
+    }
+
+    /**
+     * Intersects the ray starting at o, going in direction (dirX, dirY), with segment a-b.
+     * @param out where the intersection is kept. Unchanged if there is none.
+     * @return how far along the ray the intersection is, in lengths of the direction; -1 if there is none.
+     */
+    public static float raySegmentIntersection(float ox, float oy, float dirX, float dirY,
+                                               float ax, float ay, float bx, float by, Vector2 out) {
+        float sx = bx-ax, sy = by-ay;
+        float denominator = dirX*sy - dirY*sx;
+        if(denominator == 0)
+            return -1;
+        float qx = ax-ox, qy = ay-oy;
+        float t = (qx*sy - qy*sx)/denominator; //along the ray
+        float u = (qx*dirY - qy*dirX)/denominator; //along a-b
+        if(t < 0 || u < 0 || u > 1)
+            return -1;
+        out.set(ox + t*dirX, oy + t*dirY);
+        return t;
+    }
+
+    /**
+     * @param points vertices of a convex polygon, in either order.
+     * @return true if the point is inside the polygon or on its border.
+     */
+    public static boolean pointInConvexPolygon(Vector2[] points, float x, float y) {
+        boolean left = false, right = false;
+        for(int i=0; i<points.length; i++)
+        {
+            Vector2 a = points[i], b = points[i==points.length-1 ? 0 : i+1];
+            float side = orientation(a.x, a.y, b.x, b.y, x, y);
+            if(side > 0)
+                left = true;
+            else if(side < 0)
+                right = true;
+            if(left && right)
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,94 @@
+package com.lpoo.slashhelpers;
+
+import com.badlogic.gdx.graphics.g2d.Batch;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.GlyphLayout;
+import com.badlogic.gdx.utils.StringBuilder;
+
+/**
+ * A HUD text made of a label and a number (e.g. "SCORE: 12"), drawn every frame but only changed a few times a minute.
+ * The text is kept in a reused StringBuilder and its GlyphLayout is kept too, so both are only built again when the
+ * number changes (or the font or its color does): drawing an unchanged field creates no Strings and lays out no glyphs.
+ * Setting the number needs no OpenGL context; drawing it does.
+ */
+public class HudField {
+
+    private final String label;
+    private final StringBuilder text = new StringBuilder();
+    private final GlyphLayout layout = new GlyphLayout();
+    private long value;
+    private boolean hasValue = false;
+    /**
+     * Font and color the layout was built with; null if the text changed since.
+     */
+    private BitmapFont laidOutFont;
+    private float laidOutColor;
+    private int layouts = 0;
+
+    /**
+     * Constructor.
+     * @param label text shown before the number.
+     */
+    public HudField(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Changes the number shown, building the text again only if it is different.
+     * @param value number to show.
+     * @return true if the text changed.
+     */
+    public boolean set(long value) {
+        if(hasValue && value == this.value)
+            return false;
+        this.value = value;
+        hasValue = true;
+        text.setLength(0);
+        text.append(label).append(value);
+        laidOutFont = null;
+        return true;
+    }
+
+    /**
+     * Draws the text, laying it out first if it changed. The font's color is the one the layout is built with.
+     * Must be called between batch.begin() and batch.end().
+     * @param font font to draw with.
+     * @param batch batch to draw with.
+     * @param x x of the text's top left corner (bottom left if the font is flipped).
+     * @param y y of the text's top left corner (bottom left if the font is flipped).
+     */
+    public void draw(BitmapFont font, Batch batch, float x, float y) {
+        float color = font.getColor().toFloatBits();
+        if(font != laidOutFont || color != laidOutColor) {
+            layout.setText(font, text);
+            laidOutFont = font;
+            laidOutColor = color;
+            layouts++;
+        }
+        font.draw(batch, layout, x, y);
+    }
+
+    /**
+     *
+     * @return text shown (the label and the number).
+     */
+    public CharSequence getText() {
+        return text;
+    }
+
+    /**
+     *
+     * @return number shown.
+     */
+    public long getValue() {
+        return value;
+    }
+
+    /**
+     *
+     * @return how many times the text was laid out.
+     */
+    public int getLayouts() {
+        return layouts;
+    }
+}
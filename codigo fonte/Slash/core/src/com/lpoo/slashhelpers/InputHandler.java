@@ -1,8 +1,11 @@
 package com.lpoo.slashhelpers;
 
+import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputProcessor;
 import com.badlogic.gdx.math.Vector2;
 import com.lpoo.gameworld.GameWorld;
+import com.lpoo.replay.InputLog;
+import com.lpoo.replay.InputRecorder;
 import com.lpoo.slash.Resizer;
 
 
@@ -14,29 +17,74 @@ import com.lpoo.slash.Resizer;
 public class InputHandler implements InputProcessor {
     private GameWorld gameWorld;
     private Resizer resizer;
+    /**
+     * Records the inputs, so that the game can be replayed. May be null.
+     */
+    private InputRecorder recorder;
+    /**
+     * Reused for the finger's position, so no Vector2 is allocated per drag.
+     */
+    private Vector2 finger = new Vector2();
 
     public InputHandler(GameWorld gameWorld, Resizer resizer)
+    {
+        this(gameWorld, resizer, null);
+    }
+
+    /**
+     * Constructor.
+     * @param gameWorld game receiving the inputs.
+     * @param resizer converts screen coordinates to game coordinates. Not needed when only drag and release are used.
+     * @param recorder records the inputs, may be null.
+     */
+    public InputHandler(GameWorld gameWorld, Resizer resizer, InputRecorder recorder)
     {
         this.gameWorld=gameWorld;
         this.resizer=resizer;
+        this.recorder=recorder;
     }
 
     @Override
     public boolean touchUp(int screenX, int screenY, int pointer, int button) {
-        if(gameWorld.getSlasher().getFinger()!=null && !gameWorld.getSlasherIsMoving())
-            gameWorld.startSlashMovement();
-        gameWorld.getSlasher().setFinger(null); //send info to Slasher TODO EDIT
+        release();
         return true;
     }
 
     @Override
     public boolean touchDragged(int screenX, int screenY, int pointer) {
-        gameWorld.getSlasher().setFinger(resizer.convertDimensions(new Vector2(screenX,screenY))); //keep sending info to gameRenderer
+        resizer.convertDimensions(finger.set(screenX,screenY));
+        drag(InputLog.quantize(finger.x), InputLog.quantize(finger.y));
         return true;
     }
 
+    /**
+     * Moves the finger. Coordinates are quantized, so that a recorded game is replayed exactly.
+     * @param x x in game units, quantized by InputLog.quantize.
+     * @param y y in game units, quantized by InputLog.quantize.
+     */
+    public void drag(int x, int y) {
+        if(recorder!=null)
+            recorder.drag(gameWorld.getTicks(), x, y);
+        gameWorld.getSlasher().setFinger(finger.set(InputLog.dequantize(x), InputLog.dequantize(y))); //keep sending info to gameRenderer
+    }
+
+    /**
+     * Releases the finger, starting a slash if the finger is in a valid position.
+     */
+    public void release() {
+        if(recorder!=null)
+            recorder.release(gameWorld.getTicks());
+        if(gameWorld.getSlasher().getFinger()!=null && !gameWorld.getSlasherIsMoving())
+            gameWorld.startSlashMovement();
+        gameWorld.getSlasher().setFinger(null); //send info to Slasher TODO EDIT
+    }
+
     @Override
     public boolean touchDown(int screenX, int screenY, int pointer, int button) {
+        if(pointer==2) { //third finger toggles the profiler overlay
+            gameWorld.getProfiler().toggleOverlay();
+            return true;
+        }
         return false;
     }
 
@@ -52,6 +100,10 @@ public class InputHandler implements InputProcessor {
 
     @Override
     public boolean keyDown(int keycode) {
+        if(keycode==Input.Keys.F3) {
+            gameWorld.getProfiler().toggleOverlay();
+            return true;
+        }
         return false;
     }
 
@@ -0,0 +1,95 @@
+package com.lpoo.slashhelpers;
+
+import com.badlogic.gdx.math.Vector2;
+
+/**
+ * Line through two points, as a*x + b*y + c = 0. Unlike Function, vertical lines are fine.
+ * The sign of value(x, y) tells the side of the point: positive on the left of the direction the line was made with.
+ * Can be set again, so that it is reused instead of allocated.
+ */
+public class Line {
+
+    private float a, b, c;
+
+    public Line() {
+    }
+
+    /**
+     * Constructor.
+     * @param x1 x of one point.
+     * @param y1 y of one point.
+     * @param x2 x of another point.
+     * @param y2 y of another point.
+     */
+    public Line(float x1, float y1, float x2, float y2) {
+        set(x1, y1, x2, y2);
+    }
+
+    /**
+     * Makes this the line going from one point to another.
+     * @param x1 x of one point.
+     * @param y1 y of one point.
+     * @param x2 x of another point.
+     * @param y2 y of another point.
+     * @return this.
+     */
+    public Line set(float x1, float y1, float x2, float y2) {
+        a = y1-y2;
+        b = x2-x1;
+        c = -(a*x1 + b*y1);
+        return this;
+    }
+
+    public float getA() {
+        return a;
+    }
+
+    public float getB() {
+        return b;
+    }
+
+    public float getC() {
+        return c;
+    }
+
+    /**
+     * @param x x of a point.
+     * @param y y of a point.
+     * @return a*x + b*y + c: 0 on the line, positive on its left, negative on its right.
+     */
+    public float value(float x, float y) {
+        return a*x + b*y + c;
+    }
+
+    /**
+     * @param x x of a point.
+     * @param y y of a point.
+     * @return distance from the point to the line.
+     */
+    public float distance(float x, float y) {
+        return Math.abs(value(x, y))/(float)Math.sqrt(a*a + b*b);
+    }
+
+    /**
+     * @param x x of a point.
+     * @param y y of a point.
+     * @return the smallest of the vertical and horizontal distances from the point to the line.
+     */
+    public float axisDistance(float x, float y) {
+        return Math.abs(value(x, y))/Math.max(Math.abs(a), Math.abs(b));
+    }
+
+    /**
+     * Intersects this line with another one.
+     * @param line the other line.
+     * @param out where the intersection is kept. Unchanged if there is none.
+     * @return false if the lines are parallel.
+     */
+    public boolean intersect(Line line, Vector2 out) {
+        float denominator = a*line.b - b*line.a;
+        if(denominator == 0)
+            return false;
+        out.set((b*line.c - c*line.b)/denominator, (c*line.a - a*line.c)/denominator);
+        return true;
+    }
+}
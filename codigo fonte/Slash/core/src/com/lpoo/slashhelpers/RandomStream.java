@@ -0,0 +1,71 @@
+package com.lpoo.slashhelpers;
+
+/**
+ * Small, fast pseudo-random generator (SplitMix64), used instead of java.util.Random so that
+ * drawing numbers allocates nothing and needs no synchronization.
+ * The same seed always gives the same sequence, on every platform.
+ */
+public class RandomStream {
+
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private long state;
+
+    /**
+     * Constructor with a seed taken from the clock, for when the sequence does not need to be repeated.
+     */
+    public RandomStream() {
+        this(System.nanoTime());
+    }
+
+    /**
+     * Constructor.
+     * @param seed seed of the sequence.
+     */
+    public RandomStream(long seed) {
+        setSeed(seed);
+    }
+
+    /**
+     * Restarts the sequence.
+     * @param seed seed of the sequence.
+     */
+    public void setSeed(long seed) {
+        state = seed;
+    }
+
+    /**
+     *
+     * @return next pseudo-random long, all 2^64 values possible.
+     */
+    public long nextLong() {
+        return mix(state += GOLDEN_GAMMA);
+    }
+
+    /**
+     *
+     * @return next pseudo-random float, between 0 (inclusive) and 1 (exclusive).
+     */
+    public float nextFloat() {
+        return (nextLong() >>> 40) * 0x1.0p-24f;
+    }
+
+    /**
+     * @param bound upper limit, must be positive.
+     * @return next pseudo-random int, between 0 (inclusive) and bound (exclusive).
+     */
+    public int nextInt(int bound) {
+        return (int)(((nextLong() >>> 33) * bound) >>> 31);
+    }
+
+    /**
+     * Scrambles the bits of a long. Also used to derive independent seeds from one seed.
+     * @param z value to scramble.
+     * @return scrambled value.
+     */
+    public static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,75 @@
+package com.lpoo.slashhelpers;
+
+import com.badlogic.gdx.Gdx;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * The file where the highscore is kept, in a given directory (the app's files directory on Android).
+ * Used by the screens, so that GameWorld does not depend on where the game keeps its files.
+ */
+public class ScoreFile {
+
+    /**
+     * Name of the file, in the directory.
+     */
+    public static final String FILENAME = "highscore.txt";
+
+    private final File file;
+
+    /**
+     * Constructor.
+     * @param directory directory of the file; null for the working directory.
+     */
+    public ScoreFile(File directory) {
+        file = new File(directory, FILENAME);
+    }
+
+    /**
+     * Attemps to read the file with the high score and return it.
+     * @return number in the file; 0 if file does not exist or can't be read.
+     */
+    public int read()
+    {
+        int highscore=0;
+        try {
+            BufferedReader reader = new BufferedReader(new FileReader(file.getAbsoluteFile()));
+            highscore=reader.read();
+            reader.close();
+        } catch (FileNotFoundException e) {
+
+        } catch (IOException e) {
+            Gdx.app.error("ScoreFile", "Could not read " + file.getAbsolutePath(), e);
+        }
+        return Math.max(highscore, 0); //-1 if the file is empty
+    }
+
+    /**
+     * Writes the highscore to the file.
+     * @param highscore highest score achieved.
+     * @throws IOException if the file can't be written.
+     */
+    public void write(int highscore) throws IOException
+    {
+        BufferedWriter output = new BufferedWriter(new FileWriter(file.getAbsoluteFile()));
+        try {
+            output.write(highscore);
+        } finally {
+            output.close();
+        }
+    }
+
+    /**
+     *
+     * @return the file.
+     */
+    public File getFile() {
+        return file;
+    }
+}
@@ -28,6 +28,43 @@ public final class Utilities {
         return Math.sqrt(Math.pow(pt1.x-pt2.x,2)+Math.pow(pt1.y-pt2.y,2));
     }
 
+    /**
+     *
+     * @param x1 x of one point
+     * @param y1 y of one point
+     * @param x2 x of another point
+     * @param y2 y of another point
+     * @return Euclidian distance between the two points.
+     */
+    public static double distance(float x1, float y1, float x2, float y2)
+    {
+        double dx = x1-x2, dy = y1-y2;
+        return Math.sqrt(dx*dx+dy*dy);
+    }
+
+    /**
+     * Smallest distance between two points that both move in a straight line, at constant velocity, during the same time
+     * (e.g. the slasher and a ball during one physics step).
+     * @param ax0 x of the first point at the start.
+     * @param ay0 y of the first point at the start.
+     * @param ax1 x of the first point at the end.
+     * @param ay1 y of the first point at the end.
+     * @param bx0 x of the second point at the start.
+     * @param by0 y of the second point at the start.
+     * @param bx1 x of the second point at the end.
+     * @param by1 y of the second point at the end.
+     * @return closest distance between the points during their movement.
+     */
+    public static double sweptDistance(float ax0, float ay0, float ax1, float ay1, float bx0, float by0, float bx1, float by1)
+    {
+        //the second point as seen from the first: starts at r, moves by d
+        double rx = bx0-ax0, ry = by0-ay0;
+        double dx = (bx1-bx0)-(ax1-ax0), dy = (by1-by0)-(ay1-ay0);
+        double length2 = dx*dx+dy*dy;
+        double t = length2 > 0 ? Math.max(0, Math.min(1, -(rx*dx+ry*dy)/length2)) : 0;
+        return Math.sqrt(Math.pow(rx+t*dx,2)+Math.pow(ry+t*dy,2));
+    }
+
     public static List<Vector2> getCircleLineIntersectionPoint(Vector2 pointA, Vector2 pointB, Vector2 center, float radius) {
         float baX = pointB.x - pointA.x;
         float baY = pointB.y - pointA.y;
@@ -130,20 +167,10 @@ public final class Utilities {
 
 
         }
-        for (int i = 0;i<points.length;i++){
-            if(points[i%4].x == points[(i+1)%4].x){
-                points[i].x++;
-            }
-            if(points[i%4].y == points[(i+1)%4].y){
-                points[i].y++;
-            }
-        }
     }
 
     public static boolean isBetween ( Vector2 center, Vector2 p, Vector2 ballPoint)
     {
-
-        System.out.println("GameWorld::isBetween() center:"+ center + " p" + p + "ball" + ballPoint);
         if(p == null)
             return false;
 
@@ -165,20 +192,15 @@ public final class Utilities {
     }
 
     public static boolean pointInPolygon( Vector2[] pointsTriangle, Ball ball) {
+        Vector2 position = ball.getPosition();
+        return pointInPolygon(pointsTriangle, position.x, position.y);
+    }
 
-        Vector2 center = new Vector2();
-        boolean b = true;
-        center.x = (pointsTriangle[0].x + pointsTriangle[1].x + pointsTriangle[2].x)/3;
-        center.y = (pointsTriangle[0].y + pointsTriangle[1].y + pointsTriangle[2].y)/3;
-        Vector2 ballPoint = new Vector2(ball.getBody().getPosition().x,ball.getBody().getPosition().y);
-        Function f = new Function(center, ballPoint);
-        for(int i = 0;i<pointsTriangle.length;i++){
-            Function edge = new Function(pointsTriangle[i], pointsTriangle[((i+1)%3)]);
-            Vector2 p = f.intersect(edge);
-
-            if(Utilities.isBetween(center, p, ballPoint))
-                b = false;
-        }
-        return b;
+    /**
+     * @param pointsTriangle vertices of a convex polygon (e.g. the triangle cut by a slash).
+     * @return true if the point is inside the polygon or on its border.
+     */
+    public static boolean pointInPolygon( Vector2[] pointsTriangle, float x, float y) {
+        return Geometry.pointInConvexPolygon(pointsTriangle, x, y);
     }
 }
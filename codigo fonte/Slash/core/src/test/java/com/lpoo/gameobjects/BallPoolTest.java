@@ -0,0 +1,67 @@
+package com.lpoo.gameobjects;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.lpoo.gameworld.GameWorld;
+import com.lpoo.slashhelpers.RandomStream;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for reusing the balls' bodies.
+ */
+public class BallPoolTest {
+
+    @Test
+    public void testReuse()
+    {
+        World world = new World(new Vector2(0, 0), false);
+        BallPool pool = new BallPool(world, Ball.defaultVelocity, new RandomStream(1));
+
+        Ball ball = pool.obtain(60, 20);
+        assertEquals(0, pool.getHits());
+        assertEquals(1, pool.getMisses());
+
+        pool.free(ball);
+        assertFalse(ball.getBody().isActive());
+        assertEquals(1, pool.getFreeCount());
+
+        Ball reused = pool.obtain(100, 80);
+        assertSame(ball, reused);
+        assertTrue(reused.getBody().isActive());
+        assertEquals(100, reused.getBody().getPosition().x, 0.001f);
+        assertEquals(80, reused.getBody().getPosition().y, 0.001f);
+        assertEquals(Ball.defaultVelocity, reused.getBody().getLinearVelocity().len(), 0.01f);
+        assertEquals(1, pool.getHits());
+        assertEquals(1, world.getBodyCount());
+        world.dispose();
+    }
+
+    @Test
+    public void testSlashesReuseBodies()
+    {
+        GameWorld gameWorld = new GameWorld(0);
+        World world = gameWorld.getWorld();
+        int bodies = world.getBodyCount();
+        BallPool pool = gameWorld.getBallPool();
+
+        //capture every ball and respawn them, as checkBalls and createBalls do after a slash
+        for(int slash=0; slash<100; slash++)
+        {
+            int n = gameWorld.getBalls().size();
+            for(int i=n-1; i>=0; i--)
+                pool.free(gameWorld.getBalls().remove(i));
+            for(int i=0; i<n; i++)
+                gameWorld.getBalls().add(pool.obtain(100, 100));
+        }
+
+        assertEquals(bodies, world.getBodyCount());
+        assertEquals(0, pool.getMisses());
+        gameWorld.dispose();
+    }
+}
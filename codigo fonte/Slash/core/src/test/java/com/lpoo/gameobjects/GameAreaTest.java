@@ -8,6 +8,7 @@ import org.junit.Test;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Created by Diogo on 30-05-2016.
@@ -36,13 +37,128 @@ public class GameAreaTest {
     }
 
     @Test
-    public void testImpossibleLines()
+    public void testVerticalAndHorizontalEdges()
     {
+        //Line handles vertical edges, so checkBounds no longer moves the points apart
         Vector2 pt1 = new Vector2(20,20), pt2 = new Vector2(20,170), pt3 = new Vector2(230,170), pt4 = new Vector2(230,20);
         GameWorld gameWorld = new GameWorld(pt1,pt2,pt3,pt4,pt1);
         Vector2[] pts = gameWorld.getGameArea().getPoints();
-        assertNotSame(pts[0].x,pts[1].x);
-        assertNotSame(pts[2].x,pts[3].x);
+        assertEquals(pts[0].x, pts[1].x, 0);
+        assertEquals(pts[1].y, pts[2].y, 0);
+        assertEquals(pts[2].x, pts[3].x, 0);
+        assertEquals(pts[3].y, pts[0].y, 0);
+
+        GameAreaGeometry geometry = gameWorld.getGameArea().getGeometry();
+        assertEquals(210*150, geometry.getArea(), 0.01f);
+        assertEquals(5, geometry.getEdge(0).axisDistance(25, 100), 0.0001f);
+        assertEquals(5, geometry.getEdge(1).axisDistance(100, 165), 0.0001f);
+    }
+
+    @Test
+    public void testReplacePointUpdatesOnlyChangedEdges()
+    {
+        Vector2 pt1 = new Vector2(30,20), pt2 = new Vector2(20,170), pt3 = new Vector2(230,160), pt4 = new Vector2(220,20);
+        GameWorld gameWorld = new GameWorld(pt1,pt2,pt3,pt4,pt1);
+        GameArea gameArea = gameWorld.getGameArea();
+        int bodies = gameWorld.getWorld().getBodyCount();
+        assertEquals(4, gameArea.getEdgeUpdates());
+
+        Vector2 newPoint = new Vector2(200,150);
+        gameArea.replacePoint(pt3, newPoint);
+
+        assertSame(newPoint, gameArea.getPoints()[2]);
+        assertSame(null, gameArea.getToDelete());
+        assertEquals(6, gameArea.getEdgeUpdates()); //edges 1 (pt2-pt3) and 2 (pt3-pt4)
+        assertEquals(bodies, gameWorld.getWorld().getBodyCount());
+    }
+
+    @Test
+    public void testGeometry()
+    {
+        Vector2 pt1 = new Vector2(30,20), pt2 = new Vector2(20,170), pt3 = new Vector2(230,160), pt4 = new Vector2(220,20);
+        GameWorld gameWorld = new GameWorld(pt1,pt2,pt3,pt4,pt1);
+        GameArea gameArea = gameWorld.getGameArea();
+        Vector2[] pts = gameArea.getPoints();
+        GameAreaGeometry geometry = gameArea.getGeometry();
+
+        //about 200 wide and 145 high (points moved by Utilities::checkBounds)
+        assertEquals(200*145, geometry.getArea(), 400);
+        assertEquals(20, geometry.getMinX(), 1);
+        assertEquals(230, geometry.getMaxX(), 1);
+        assertEquals(20, geometry.getMinY(), 1);
+        assertEquals(170, geometry.getMaxY(), 1);
+        assertEquals(30, geometry.getInnerMinX(), 1);
+        assertEquals(220, geometry.getInnerMaxX(), 1);
+        assertEquals(20, geometry.getInnerMinY(), 1);
+        assertEquals(160, geometry.getInnerMaxY(), 1);
+
+        for(int i=0; i<4; i++)
+        {
+            Vector2 a = pts[i], b = pts[(i+1)%4];
+            //the edge's line goes through both points
+            assertEquals(0, geometry.getEdge(i).distance(a.x, a.y), 0.01f);
+            assertEquals(0, geometry.getEdge(i).distance(b.x, b.y), 0.01f);
+            //unit normal pointing inside
+            float nx = geometry.getNormalX(i), ny = geometry.getNormalY(i);
+            assertEquals(1, nx*nx+ny*ny, 0.0001f);
+            assertEquals(geometry.getOffset(i), nx*a.x+ny*a.y, 0.01f);
+            assertEquals(geometry.getOffset(i), nx*b.x+ny*b.y, 0.01f);
+            assertTrue(nx*geometry.getCentroidX()+ny*geometry.getCentroidY() > geometry.getOffset(i));
+        }
+
+        //center on both diagonals
+        Vector2 center = geometry.getCenter();
+        assertEquals((pts[2].y-pts[0].y)/(pts[2].x-pts[0].x), (center.y-pts[0].y)/(center.x-pts[0].x), 0.001f);
+        assertEquals((pts[3].y-pts[1].y)/(pts[3].x-pts[1].x), (center.y-pts[1].y)/(center.x-pts[1].x), 0.001f);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testReplacePointUpdatesGeometry()
+    {
+        Vector2 pt1 = new Vector2(30,20), pt2 = new Vector2(20,170), pt3 = new Vector2(230,160), pt4 = new Vector2(220,20);
+        GameWorld gameWorld = new GameWorld(pt1,pt2,pt3,pt4,pt1);
+        GameArea gameArea = gameWorld.getGameArea();
+        GameAreaGeometry before = gameArea.getGeometry();
+
+        gameArea.replacePoint(pt3, new Vector2(200,150));
+
+        GameAreaGeometry after = gameArea.getGeometry();
+        assertNotSame(before, after);
+        assertEquals(160, before.getInnerMaxY(), 1); //kept as it was
+        assertEquals(150, after.getInnerMaxY(), 1);
+        assertEquals(200, after.getInnerMaxX(), 1);
+        assertTrue(after.getArea() < before.getArea());
+    }
+
+    @Test
+    public void testResizeSmallArea()
+    {
+        Vector2 pt1 = new Vector2(30,20), pt2 = new Vector2(20,170), pt3 = new Vector2(230,160), pt4 = new Vector2(220,20);
+        GameWorld gameWorld = new GameWorld(pt1,pt2,pt3,pt4,pt1);
+        GameArea gameArea = gameWorld.getGameArea();
+
+        //slash that leaves a gameArea of 950
+        pt1.set(120,95);
+        pt3.set(130,105);
+        gameArea.replacePoint(pt4, new Vector2(130,90));
+        Vector2[] pts = gameArea.getPoints();
+        float area = gameArea.getGeometry().getArea();
+        assertTrue(area > GameArea.RESIZED_AREA*0.99f); //a corner clamped by checkBounds leaves a bit less
+        assertTrue(area < GameArea.RESIZED_AREA + 1000);
+        assertTrue(pts[0].x <= GameArea.center.x && pts[0].y <= GameArea.center.y);
+        assertTrue(pts[1].x <= GameArea.center.x && pts[1].y >= GameArea.center.y);
+        assertTrue(pts[2].x >= GameArea.center.x && pts[2].y >= GameArea.center.y);
+        assertTrue(pts[3].x >= GameArea.center.x && pts[3].y <= GameArea.center.y);
+        assertSame(pt1, pts[0]); //moved in place, so the slasher stays on its corner
+        assertSame(pts[0], gameWorld.getSlasher().getPosition());
+    }
+
+    @Test
+    public void testResizeDegenerateArea()
+    {
+        //corners almost on a line: grown in a bounded number of passes
+        Vector2 pt1 = new Vector2(100,99.9f), pt2 = new Vector2(110,100.1f), pt3 = new Vector2(140,100.1f), pt4 = new Vector2(150,99.9f);
+        GameWorld gameWorld = new GameWorld(pt1,pt2,pt3,pt4,pt1);
+        assertTrue(gameWorld.getGameArea().getGeometry().getArea() >= GameArea.MIN_AREA);
+    }
+}
@@ -1,11 +1,20 @@
 package com.lpoo.gameobjects;
 
 import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.World;
+import com.lpoo.gameworld.BallSnapshot;
+import com.lpoo.gameworld.Difficulty;
 import com.lpoo.gameworld.GameWorld;
+import com.lpoo.gameworld.PhysicsBackend;
+import com.lpoo.simulation.RandomSlasherPolicy;
+import com.lpoo.simulation.SimulationResult;
+import com.lpoo.simulation.SimulationRunner;
+import com.lpoo.simulation.SlasherPolicy;
 import com.lpoo.slash.GameOverScreen;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Date;
 
 import static com.lpoo.slashhelpers.Utilities.changeScreen;
@@ -16,6 +25,67 @@ import static org.junit.Assert.*;
  */
 public class SlasherTest {
 
+    /**
+     * Positions of the slasher, and positions and velocities of the balls, at the end of each physics step of a slash
+     * (the first ones at its start).
+     */
+    private static class SlashPath {
+        private ArrayList<float[]> slasher = new ArrayList<float[]>();
+        private ArrayList<float[]> ballsX = new ArrayList<float[]>(), ballsY = new ArrayList<float[]>();
+        private ArrayList<float[]> ballsVx = new ArrayList<float[]>(), ballsVy = new ArrayList<float[]>();
+
+        void add(float x, float y, BallSnapshot balls, boolean previous) {
+            int n = balls.size();
+            float[] xs = new float[n], ys = new float[n], vxs = new float[n], vys = new float[n];
+            for(int i=0; i<n; i++) {
+                xs[i] = previous ? balls.getPreviousX(i) : balls.getX(i);
+                ys[i] = previous ? balls.getPreviousY(i) : balls.getY(i);
+                vxs[i] = previous ? balls.getPreviousVelocityX(i) : balls.getVelocityX(i);
+                vys[i] = previous ? balls.getPreviousVelocityY(i) : balls.getVelocityY(i);
+            }
+            slasher.add(new float[]{x, y});
+            ballsX.add(xs);
+            ballsY.add(ys);
+            ballsVx.add(vxs);
+            ballsVy.add(vys);
+        }
+
+        /**
+         * Adds the positions after one more step, with the slasher moved as Slasher::endStep does
+         * (its body's position is no longer readable once it hit a ball).
+         */
+        void addStep(Slasher moved, float stepTime, BallSnapshot balls) {
+            float[] last = slasher.get(size()-1);
+            add(last[0]+stepTime*moved.getVelocityX(), last[1]+stepTime*moved.getVelocityY(), balls, false);
+        }
+
+        /**
+         * @param stepTime duration of each of the recorded steps, in seconds.
+         * @return true if the slasher hits a ball when moving, in a single step, from its position at from to the one at to.
+         */
+        boolean hit(int from, int to, float stepTime) {
+            float[] start = slasher.get(from), end = slasher.get(to);
+            for(int i=0; i<ballsX.get(to).length; i++)
+                if(Slasher.hitsBall(start[0], start[1], end[0], end[1],
+                        ballsX.get(from)[i], ballsY.get(from)[i], ballsX.get(to)[i], ballsY.get(to)[i],
+                        ballsVx.get(from)[i], ballsVy.get(from)[i], ballsVx.get(to)[i], ballsVy.get(to)[i], (to-from)*stepTime))
+                    return true;
+            return false;
+        }
+
+        int size() {
+            return slasher.size();
+        }
+
+        void clear() {
+            slasher.clear();
+            ballsX.clear();
+            ballsY.clear();
+            ballsVx.clear();
+            ballsVy.clear();
+        }
+    }
+
     @Test
     public void testBasics()
     {
@@ -66,16 +136,17 @@ public class SlasherTest {
 
         slasher.setFinger(new Vector2(100, 100));
 
-        String message="OK";
+        Slasher.Status status=Slasher.Status.OK;
         gameWorld.startSlashMovement();
-        while(message=="OK")
+        while(status==Slasher.Status.OK)
         {
             //lines of code extracted from GameWorld::update
             gameWorld.getWorld().step(1f / 60f, 6, 2);
-            message=slasher.isMoving();
+            gameWorld.getSnapshot().capture(gameWorld.getBalls());
+            status=slasher.isMoving();
 
         }
-        assertEquals(message,"Slasher End Reached");
+        assertEquals(status,Slasher.Status.END_REACHED);
     }
 
     @Test public void testGameOverOnBallCollision()
@@ -99,16 +170,150 @@ public class SlasherTest {
         //slash on collision
         slasher.setFinger(new Vector2(100, 100));
 
-        String message="OK";
+        Slasher.Status status=Slasher.Status.OK;
         gameWorld.startSlashMovement();
-        while(message=="OK")
+        while(status==Slasher.Status.OK)
         {
             //lines of code extracted from GameWorld::update
             gameWorld.getWorld().step(1f / 60f, 6, 2);
-            message=slasher.isMoving();
+            gameWorld.getSnapshot().capture(gameWorld.getBalls());
+            status=slasher.isMoving();
 
         }
-        assertEquals("Game Over",message);
+        assertEquals(Slasher.Status.GAME_OVER,status);
+
+    }
 
+    @Test public void testHitBetweenSteps()
+    {
+        Vector2 pt1=new Vector2(20,20),pt2=new Vector2(30,175),pt3=new Vector2(235,175),pt4=new Vector2(225,20);
+        GameWorld gameWorld=new GameWorld(pt1,pt2,pt3,pt4,pt2,PhysicsBackend.Kind.ARRAYS);
+        //4 steps per second: the slasher moves 22.5 per step
+        gameWorld.setPhysicsRate(4);
+
+        //still ball on the slasher's way, halfway between the ends of its 3rd step (11.25 away from both)
+        Vector2 direction=new Vector2(100,100).sub(pt2).nor();
+        Ball ball=gameWorld.getBalls().get(0);
+        gameWorld.getPhysics().setBallVelocity(ball.getId(),0,0);
+        gameWorld.getPhysics().setBallPosition(ball.getId(),pt2.x+56.25f*direction.x,pt2.y+56.25f*direction.y);
+
+        gameWorld.getSlasher().setFinger(new Vector2(100, 100));
+        gameWorld.startSlashMovement();
+        for(int i=0; i<3; i++)
+            gameWorld.tick();
+        assertTrue(gameWorld.isGameOver());
+    }
+
+    @Test public void testEndReachedBetweenSteps()
+    {
+        Vector2 pt1=new Vector2(20,20),pt2=new Vector2(30,175),pt3=new Vector2(235,175),pt4=new Vector2(225,20);
+        GameWorld gameWorld=new GameWorld(pt1,pt2,pt3,pt4,pt2,PhysicsBackend.Kind.ARRAYS);
+        gameWorld.setPhysicsRate(4);
+        //ball out of the way
+        Ball ball=gameWorld.getBalls().get(0);
+        gameWorld.getPhysics().setBallVelocity(ball.getId(),0,0);
+        gameWorld.getPhysics().setBallPosition(ball.getId(),215,30);
+
+        gameWorld.getSlasher().setFinger(new Vector2(100, 100));
+        gameWorld.startSlashMovement();
+        //about 212 to the opposite edge: 7 away from it after the 9th step, past it after the 10th
+        for(int i=0; i<9; i++)
+            gameWorld.tick();
+        assertTrue(gameWorld.getSlasherIsMoving());
+        gameWorld.tick();
+        assertFalse(gameWorld.getSlasherIsMoving());
+        assertFalse(gameWorld.isGameOver());
+        assertNotSame(pt2, gameWorld.getSlasher().getPosition());
+    }
+
+    /**
+     * Plays Box2D games at the default rate, with every slash starting on a step of the low-power rate, and keeps the
+     * paths of the slasher and of the balls during the slash that ended each game with a hit. Checks the same paths
+     * with the low-power rate's longer steps (every other snapshot): the hit must be found, at the latest in the
+     * long step that contains it. The paths are the same at both rates, so only the swept check is tested.
+     */
+    @Test public void testLowPowerStepsFindTheSameHits()
+    {
+        final int ratio = GameWorld.DEFAULT_PHYSICS_RATE/GameWorld.LOW_POWER_PHYSICS_RATE;
+        int games = 40, hits = 0;
+        for(int seed=0; seed<games; seed++)
+        {
+            final SlasherPolicy random = new RandomSlasherPolicy(seed, 30);
+            SlasherPolicy onLowPowerSteps = new SlasherPolicy() {
+                @Override
+                public void act(GameWorld gameWorld) {
+                    if(gameWorld.getTicks() % ratio == 0)
+                        random.act(gameWorld);
+                }
+            };
+            SimulationRunner runner = new SimulationRunner(onLowPowerSteps, Difficulty.DEFAULT, seed, PhysicsBackend.Kind.BOX2D);
+            GameWorld gameWorld = runner.getGameWorld();
+            SlashPath path = new SlashPath();
+            SimulationResult result = runner.run(1);
+            while(!result.gameOver)
+            {
+                if(!gameWorld.getSlasherIsMoving())
+                    path.clear();
+                else {
+                    Slasher slasher = gameWorld.getSlasher();
+                    if(path.size() == 0)
+                        path.add(slasher.getPreviousBodyPosition().x, slasher.getPreviousBodyPosition().y, gameWorld.getSnapshot(), true);
+                    path.add(slasher.getBodyPosition().x, slasher.getBodyPosition().y, gameWorld.getSnapshot(), false);
+                }
+                result = runner.run(gameWorld.getTicks()+1);
+            }
+            if(result.hit)
+            {
+                hits++;
+                Slasher slasher = gameWorld.getSlasher();
+                float stepTime = gameWorld.getStepTime();
+                if(path.size() == 0) //hit on the first step
+                    path.add(slasher.getPosition().x, slasher.getPosition().y, gameWorld.getSnapshot(), true);
+                path.addStep(slasher, stepTime, gameWorld.getSnapshot());
+                gameWorld.tick(); //the balls' positions one step after the hit, if the long step ends there
+                path.addStep(slasher, stepTime, gameWorld.getSnapshot());
+
+                int hitStep = path.size()-2;
+                assertTrue("seed " + seed, path.hit(hitStep-1, hitStep, stepTime));
+                boolean found = false;
+                for(int end=ratio; end<path.size() && !found; end+=ratio)
+                    found = path.hit(end-ratio, end, stepTime);
+                assertTrue("seed " + seed + ": hit at step " + hitStep + " of the slash missed with longer steps", found);
+            }
+            gameWorld.dispose();
+        }
+        assertTrue(hits + "/" + games, hits > games/2);
+    }
+
+    @Test public void testNativeCountsStayFlat()
+    {
+        GameWorld gameWorld=new GameWorld(0);
+        World world=gameWorld.getWorld();
+        int bodies=0, fixtures=0;
+
+        for(int slash=0; slash<10000; slash++)
+        {
+            //no balls, so that every slash reaches the other side
+            for(int i=gameWorld.getBalls().size()-1; i>=0; i--)
+                gameWorld.getBallPool().free(gameWorld.getBalls().remove(i));
+
+            Vector2[] pts=gameWorld.getGameArea().getPoints();
+            Slasher slasher=gameWorld.getSlasher();
+            slasher.setFinger(new Vector2((pts[0].x+pts[1].x+pts[2].x+pts[3].x)/4, (pts[0].y+pts[1].y+pts[2].y+pts[3].y)/4));
+            assertNotNull(slasher.getFinger());
+            gameWorld.startSlashMovement();
+            slasher.setFinger(null);
+            while(gameWorld.getSlasherIsMoving())
+                gameWorld.tick();
+            assertFalse(gameWorld.isGameOver());
+
+            if(slash==10) { //after the pool and the slasher's bodies were created
+                bodies=world.getBodyCount();
+                fixtures=world.getFixtureCount();
+            }
+        }
+        assertEquals(bodies, world.getBodyCount());
+        assertEquals(fixtures, world.getFixtureCount());
+        gameWorld.dispose();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,138 @@
+package com.lpoo.gameworld;
+
+import com.lpoo.gameobjects.Ball;
+import com.lpoo.gameobjects.Redirecter;
+import com.lpoo.gameobjects.Slasher;
+import com.lpoo.replay.InputLog;
+import com.lpoo.slashhelpers.InputHandler;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Allocation gate: runs steady-state frames (GameWorld::update with the finger being dragged, the balls moving,
+ * the timer running and the HUD texts being updated as GameRenderer does, and frames with the slasher moving)
+ * and fails if they allocate more than the budget, in bytes per frame. The budget can be changed with -Dslash.allocationBudget=bytes.
+ * Skipped on JVMs that can't measure the allocations of a thread.
+ */
+public class AllocationTest {
+
+    private static final int WARMUP_FRAMES = 2000, FRAMES = 2000;
+    private static final long BUDGET = Long.getLong("slash.allocationBudget", 16);
+
+    private com.sun.management.ThreadMXBean threads;
+
+    private long allocatedBytes()
+    {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Turns on the measuring of this thread's allocations, skipping the test if the JVM can't.
+     */
+    private void startMeasuring()
+    {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean)bean;
+        Assume.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    /**
+     * @return average bytes allocated per frame.
+     */
+    private long measure(PhysicsBackend.Kind physics)
+    {
+        startMeasuring();
+
+        //timer long enough for every frame, so that the game does not end
+        Difficulty difficulty = new Difficulty(1000, Redirecter.scoreLimit, Ball.defaultVelocity, Slasher.defaultVelocity);
+        GameWorld gameWorld = new GameWorld(0, difficulty, 7, physics);
+        for(int i=1; i<20; i++)
+            gameWorld.addBall(100 + 3*i, 60 + 4*i);
+        InputHandler input = new InputHandler(gameWorld, null);
+        HudText hud = new HudText();
+
+        for(int frame=0; frame<WARMUP_FRAMES; frame++)
+            frame(gameWorld, input, hud, frame);
+        long before = allocatedBytes();
+        for(int frame=0; frame<FRAMES; frame++)
+            frame(gameWorld, input, hud, frame);
+        long allocated = allocatedBytes() - before;
+
+        assertTrue(!gameWorld.isGameOver()); //all the frames were steady-state
+        gameWorld.dispose();
+        return allocated/FRAMES;
+    }
+
+    /**
+     * One frame: the finger moves around inside the gameArea (never released, so there is no slash).
+     */
+    private void frame(GameWorld gameWorld, InputHandler input, HudText hud, int frame)
+    {
+        float x = 130 + 60*(float)Math.cos(frame*0.05), y = 100 + 50*(float)Math.sin(frame*0.05);
+        input.drag(InputLog.quantize(x), InputLog.quantize(y));
+        gameWorld.update(1/60f);
+        hud.update(gameWorld);
+    }
+
+    /**
+     * @return average bytes allocated per frame while the slasher moves (the frame where a slash ends,
+     * which rebuilds the gameArea, is not counted).
+     */
+    private long measureSlashes(PhysicsBackend.Kind physics)
+    {
+        startMeasuring();
+
+        Difficulty difficulty = new Difficulty(1000, Redirecter.scoreLimit, Ball.defaultVelocity, Slasher.defaultVelocity);
+        long allocated = 0;
+        int frames = 0;
+        for(int run=0; run<WARMUP_FRAMES/10; run++)
+        {
+            GameWorld gameWorld = new GameWorld(0, difficulty, run, physics);
+            InputHandler input = new InputHandler(gameWorld, null);
+            //from the slasher's corner (50,50) to the opposite edge
+            input.drag(InputLog.quantize(150), InputLog.quantize(120));
+            input.release();
+            while(gameWorld.getSlasherIsMoving() && !gameWorld.isGameOver())
+            {
+                long before = allocatedBytes();
+                gameWorld.update(1/60f);
+                long after = allocatedBytes();
+                if(run >= WARMUP_FRAMES/20 && gameWorld.getSlasherIsMoving()) {
+                    allocated += after - before;
+                    frames++;
+                }
+            }
+            gameWorld.dispose();
+        }
+        assertTrue(frames > 0);
+        return allocated/frames;
+    }
+
+    @Test
+    public void testSlashFramesWithinBudget()
+    {
+        long perFrame = measureSlashes(PhysicsBackend.Kind.BOX2D);
+        assertTrue(perFrame + " bytes allocated per frame, budget is " + BUDGET, perFrame <= BUDGET);
+    }
+
+    @Test
+    public void testBox2dFramesWithinBudget()
+    {
+        long perFrame = measure(PhysicsBackend.Kind.BOX2D);
+        assertTrue(perFrame + " bytes allocated per frame, budget is " + BUDGET, perFrame <= BUDGET);
+    }
+
+    @Test
+    public void testArrayFramesWithinBudget()
+    {
+        long perFrame = measure(PhysicsBackend.Kind.ARRAYS);
+        assertTrue(perFrame + " bytes allocated per frame, budget is " + BUDGET, perFrame <= BUDGET);
+    }
+}
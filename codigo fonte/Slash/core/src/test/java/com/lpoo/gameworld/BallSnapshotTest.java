@@ -0,0 +1,88 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.gameobjects.Ball;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for the per-step copy of the balls' positions and velocities.
+ */
+public class BallSnapshotTest {
+
+    private GameWorld createGameWorld(PhysicsBackend.Kind kind, int balls)
+    {
+        Vector2 pt1=new Vector2(20,20),pt2=new Vector2(30,175),pt3=new Vector2(235,175),pt4=new Vector2(225,20);
+        GameWorld gameWorld = new GameWorld(pt1,pt2,pt3,pt4,pt2,kind);
+        for(int i=1; i<balls; i++)
+            gameWorld.getBalls().add(gameWorld.getBallPool().obtain(60 + i%10*12, 50 + i/10*10));
+        return gameWorld;
+    }
+
+    @Test
+    public void testSameAsBalls()
+    {
+        GameWorld gameWorld = createGameWorld(PhysicsBackend.Kind.BOX2D, 20);
+        BallSnapshot snapshot = gameWorld.getSnapshot();
+        for(int t=0; t<30; t++)
+        {
+            float[] previousX = new float[20], previousVx = new float[20];
+            for(int i=0; i<snapshot.size(); i++) {
+                previousX[i] = snapshot.getX(i);
+                previousVx[i] = snapshot.getVelocityX(i);
+            }
+            gameWorld.tick();
+
+            assertEquals(20, snapshot.size());
+            for(int i=0; i<20; i++)
+            {
+                Ball ball = gameWorld.getBalls().get(i);
+                assertEquals(ball.getPosition().x, snapshot.getX(i), 0);
+                assertEquals(ball.getPosition().y, snapshot.getY(i), 0);
+                assertEquals(ball.getLinearVelocity().x, snapshot.getVelocityX(i), 0);
+                assertEquals(ball.getLinearVelocity().y, snapshot.getVelocityY(i), 0);
+                if(t>0) {
+                    assertEquals(previousX[i], snapshot.getPreviousX(i), 0);
+                    assertEquals(previousVx[i], snapshot.getPreviousVelocityX(i), 0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRemoveKeepsOrder()
+    {
+        GameWorld gameWorld = createGameWorld(PhysicsBackend.Kind.ARRAYS, 5);
+        gameWorld.tick();
+        BallSnapshot snapshot = gameWorld.getSnapshot();
+        float x3 = snapshot.getX(3), y4 = snapshot.getY(4);
+
+        snapshot.remove(1);
+        gameWorld.getBalls().remove(1);
+
+        assertEquals(4, snapshot.size());
+        assertEquals(x3, snapshot.getX(2), 0);
+        assertEquals(y4, snapshot.getY(3), 0);
+    }
+
+    @Test
+    public void testNativeCallsLinearInBalls()
+    {
+        for(int balls : new int[]{10, 100})
+        {
+            GameWorld gameWorld = createGameWorld(PhysicsBackend.Kind.BOX2D, balls);
+            gameWorld.tick();
+            long before = gameWorld.getPhysics().getNativeCalls();
+            gameWorld.tick();
+            //one step, then one position and one velocity read per ball
+            assertEquals(1 + 2*balls, gameWorld.getPhysics().getNativeCalls() - before);
+        }
+
+        GameWorld arrays = createGameWorld(PhysicsBackend.Kind.ARRAYS, 100);
+        long before = arrays.getPhysics().getNativeCalls();
+        arrays.tick();
+        assertEquals(1, arrays.getPhysics().getNativeCalls() - before);
+    }
+}
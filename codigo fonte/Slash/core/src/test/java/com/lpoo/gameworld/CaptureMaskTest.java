@@ -0,0 +1,88 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.slashhelpers.Geometry;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the CaptureMask finds the same balls as testing each one with Geometry::pointInConvexPolygon.
+ */
+public class CaptureMaskTest {
+
+    private GameWorld createGameWorld(int balls)
+    {
+        Vector2 pt1=new Vector2(20,20),pt2=new Vector2(30,175),pt3=new Vector2(235,175),pt4=new Vector2(225,20);
+        GameWorld gameWorld = new GameWorld(pt1,pt2,pt3,pt4,pt2,PhysicsBackend.Kind.ARRAYS);
+        Random random = new Random(3);
+        for(int i=1; i<balls; i++)
+            gameWorld.getBalls().add(gameWorld.getBallPool().obtain(25 + 205*random.nextFloat(), 25 + 145*random.nextFloat()));
+        gameWorld.getSnapshot().capture(gameWorld.getBalls());
+        return gameWorld;
+    }
+
+    @Test
+    public void testSameAsPointInPolygon()
+    {
+        GameWorld gameWorld = createGameWorld(1000);
+        BallSnapshot snapshot = gameWorld.getSnapshot();
+        CaptureMask mask = new CaptureMask();
+        Random random = new Random(5);
+        for(int run=0; run<50; run++)
+        {
+            Vector2[] triangle = new Vector2[3];
+            for(int k=0; k<3; k++)
+                triangle[k] = new Vector2(20 + 215*random.nextFloat(), 20 + 155*random.nextFloat());
+            mask.setTriangle(triangle[0], triangle[1], triangle[2]);
+            int count = mask.capture(snapshot);
+
+            int expected = 0;
+            for(int i=0; i<snapshot.size(); i++)
+            {
+                boolean inside = Geometry.pointInConvexPolygon(triangle, snapshot.getX(i), snapshot.getY(i));
+                assertEquals(inside, mask.isCaptured(i));
+                if(inside)
+                    expected++;
+            }
+            assertEquals(expected, count);
+
+            //going down through the captured balls visits each of them once
+            int visited = 0, last = snapshot.size();
+            for(int i = mask.previousCaptured(snapshot.size()); i >= 0; i = mask.previousCaptured(i))
+            {
+                assertTrue(i < last);
+                assertTrue(mask.isCaptured(i));
+                last = i;
+                visited++;
+            }
+            assertEquals(count, visited);
+        }
+        gameWorld.dispose();
+    }
+
+    @Test
+    public void testBallOnEdgeIsCaptured()
+    {
+        GameWorld gameWorld = createGameWorld(1);
+        BallSnapshot snapshot = gameWorld.getSnapshot();
+        CaptureMask mask = new CaptureMask();
+        float x = snapshot.getX(0), y = snapshot.getY(0);
+
+        //clockwise triangle with the ball on its vertical edge
+        mask.setTriangle(new Vector2(x, y-10), new Vector2(x, y+10), new Vector2(x+10, y));
+        assertEquals(1, mask.capture(snapshot));
+        assertTrue(mask.isCaptured(0));
+
+        mask.setTriangle(new Vector2(x+1, y-10), new Vector2(x+1, y+10), new Vector2(x+10, y));
+        assertEquals(0, mask.capture(snapshot));
+        assertFalse(mask.isCaptured(0));
+        assertEquals(-1, mask.previousCaptured(1));
+        gameWorld.dispose();
+    }
+}
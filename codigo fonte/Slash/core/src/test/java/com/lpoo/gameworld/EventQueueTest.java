@@ -0,0 +1,83 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+
+public class EventQueueTest {
+
+    /**
+     * Keeps every event received as "TYPE first second".
+     */
+    private static class Recorder implements EventConsumer {
+        ArrayList<String> received = new ArrayList<String>();
+
+        @Override
+        public void onEvent(GameEvent event, int first, int second) {
+            received.add(event+" "+first+" "+second);
+        }
+    }
+
+    @Test
+    public void testDispatchInOrder()
+    {
+        EventQueue queue = new EventQueue(4);
+        Recorder a = new Recorder(), b = new Recorder();
+        queue.addConsumer(a);
+        queue.addConsumer(b);
+
+        queue.publish(GameEvent.BALL_CAPTURED, 10, 20);
+        queue.publish(GameEvent.SLASH_COMPLETED, 1, 5);
+        assertEquals(2, queue.size());
+        queue.dispatch();
+
+        assertEquals(0, queue.size());
+        assertEquals("BALL_CAPTURED 10 20", a.received.get(0));
+        assertEquals("SLASH_COMPLETED 1 5", a.received.get(1));
+        assertEquals(a.received, b.received);
+    }
+
+    @Test
+    public void testWrapAroundAndGrow()
+    {
+        EventQueue queue = new EventQueue(4);
+        Recorder recorder = new Recorder();
+        queue.addConsumer(recorder);
+
+        //moves the head to the middle of the ring
+        queue.publish(GameEvent.TIMER_EXPIRED, 0, 0);
+        queue.publish(GameEvent.TIMER_EXPIRED, 0, 0);
+        queue.publish(GameEvent.TIMER_EXPIRED, 0, 0);
+        queue.dispatch();
+        recorder.received.clear();
+
+        for(int i=0; i<10; i++)
+            queue.publish(GameEvent.BALL_CAPTURED, i, -i);
+        queue.dispatch();
+
+        assertEquals(10, recorder.received.size());
+        for(int i=0; i<10; i++)
+            assertEquals("BALL_CAPTURED "+i+" "+(-i), recorder.received.get(i));
+    }
+
+    @Test
+    public void testGameOverPublishedOnceWhenTimerExpires()
+    {
+        Vector2 pt1=new Vector2(20,20),pt2=new Vector2(30,175),
+                pt3=new Vector2(235,175),pt4=new Vector2(225,20);
+        GameWorld gameWorld = new GameWorld(pt1,pt2,pt3,pt4,pt2);
+        Recorder recorder = new Recorder();
+        gameWorld.getEvents().addConsumer(recorder);
+
+        for(int i=0; i<60*15; i++)
+            gameWorld.update(1f/60f);
+
+        assertEquals(2, recorder.received.size());
+        assertEquals("TIMER_EXPIRED 0 0", recorder.received.get(0));
+        assertEquals("GAME_OVER 0 0", recorder.received.get(1));
+    }
+}
@@ -0,0 +1,68 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for the fixed-timestep loop in GameWorld::update.
+ */
+public class GameWorldTest {
+
+    private GameWorld createGameWorld()
+    {
+        Vector2 pt1=new Vector2(20,20),pt2=new Vector2(30,175),pt3=new Vector2(235,175),pt4=new Vector2(225,20);
+        return new GameWorld(pt1,pt2,pt3,pt4,pt2);
+    }
+
+    @Test
+    public void testStepsDoNotDependOnFrameRate()
+    {
+        GameWorld at120Hz = createGameWorld();
+        GameWorld at40Hz = createGameWorld();
+
+        for(int i=0; i<120; i++)
+            at120Hz.update(1f/120f);
+        for(int i=0; i<40; i++)
+            at40Hz.update(1f/40f);
+
+        //one second of simulation in both, at the default physics rate
+        assertEquals(GameWorld.DEFAULT_PHYSICS_RATE, at120Hz.getTicks(), 1);
+        assertEquals(GameWorld.DEFAULT_PHYSICS_RATE, at40Hz.getTicks(), 1);
+    }
+
+    @Test
+    public void testAlpha()
+    {
+        GameWorld gameWorld = createGameWorld();
+        gameWorld.update(gameWorld.getStepTime()/2);
+        assertEquals(0, gameWorld.getTicks());
+        assertEquals(0.5f, gameWorld.getAlpha(), 0.001f);
+
+        gameWorld.update(gameWorld.getStepTime()/2);
+        assertEquals(1, gameWorld.getTicks());
+        assertEquals(0, gameWorld.getAlpha(), 0.001f);
+    }
+
+    @Test
+    public void testStepsPerUpdateAreCapped()
+    {
+        GameWorld gameWorld = createGameWorld();
+        gameWorld.update(1); //a very slow frame
+        assertEquals(GameWorld.MAX_STEPS_PER_UPDATE, gameWorld.getTicks());
+        gameWorld.update(0);
+        assertEquals(GameWorld.MAX_STEPS_PER_UPDATE, gameWorld.getTicks());
+    }
+
+    @Test
+    public void testPhysicsRate()
+    {
+        GameWorld gameWorld = createGameWorld();
+        gameWorld.setPhysicsRate(30);
+        for(int i=0; i<60; i++)
+            gameWorld.update(1f/60f);
+        assertEquals(30, gameWorld.getTicks(), 1);
+    }
+}
@@ -0,0 +1,164 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.gameobjects.Ball;
+import com.lpoo.simulation.RandomSlasherPolicy;
+import com.lpoo.simulation.SimulationResult;
+import com.lpoo.simulation.SimulationRunner;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that both PhysicsBackends move the balls the same way.
+ */
+public class PhysicsBackendTest {
+
+    private static final float STEP = 1f/60f;
+
+    private GameWorld createGameWorld(PhysicsBackend.Kind kind)
+    {
+        Vector2 pt1=new Vector2(20,20),pt2=new Vector2(30,175),pt3=new Vector2(235,175),pt4=new Vector2(225,20);
+        return new GameWorld(pt1,pt2,pt3,pt4,pt2,kind);
+    }
+
+    /**
+     * Moves the game's only ball to a given position and velocity.
+     */
+    private Ball throwBall(GameWorld gameWorld, float x, float y, float vx, float vy)
+    {
+        Ball ball = gameWorld.getBalls().get(0);
+        gameWorld.getPhysics().setBallPosition(ball.getId(), x, y);
+        gameWorld.getPhysics().setBallVelocity(ball.getId(), vx, vy);
+        return ball;
+    }
+
+    /**
+     * @return true if the point is on the inner side of the 4 edges of the gameArea.
+     */
+    private boolean inside(Vector2[] points, Vector2 p)
+    {
+        for(int i=0; i<4; i++)
+        {
+            Vector2 a=points[i], b=points[(i+1)%4], c=points[(i+2)%4];
+            float side = (b.x-a.x)*(p.y-a.y) - (b.y-a.y)*(p.x-a.x);
+            float inner = (b.x-a.x)*(c.y-a.y) - (b.y-a.y)*(c.x-a.x);
+            if(side*inner < 0)
+                return false;
+        }
+        return true;
+    }
+
+    @Test
+    public void testSameBounceOffWall()
+    {
+        GameWorld box2d = createGameWorld(PhysicsBackend.Kind.BOX2D);
+        GameWorld arrays = createGameWorld(PhysicsBackend.Kind.ARRAYS);
+        //towards the right wall
+        Ball box2dBall = throwBall(box2d, 180, 100, 25, 5);
+        Ball arraysBall = throwBall(arrays, 180, 100, 25, 5);
+
+        //same path until touching the wall
+        for(int i=0; i<100; i++)
+        {
+            box2d.getPhysics().step(STEP);
+            arrays.getPhysics().step(STEP);
+            assertEquals(box2dBall.getPosition().x, arraysBall.getPosition().x, 0.001f);
+            assertEquals(box2dBall.getPosition().y, arraysBall.getPosition().y, 0.001f);
+        }
+        for(int i=0; i<50; i++)
+        {
+            box2d.getPhysics().step(STEP);
+            arrays.getPhysics().step(STEP);
+        }
+
+        //bounced back at the same place, in about the same direction and with about the same speed
+        //(Box2D's box starts spinning, taking a bit of its speed)
+        assertEquals(box2dBall.getPosition().x, arraysBall.getPosition().x, 2);
+        assertEquals(box2dBall.getPosition().y, arraysBall.getPosition().y, 2);
+        Vector2 box2dVelocity = new Vector2(), arraysVelocity = new Vector2();
+        box2d.getPhysics().getBallVelocity(box2dBall.getId(), box2dVelocity);
+        arrays.getPhysics().getBallVelocity(arraysBall.getId(), arraysVelocity);
+        assertTrue(box2dVelocity.x < 0);
+        assertTrue(arraysVelocity.x < 0);
+        assertEquals(box2dVelocity.angle(), arraysVelocity.angle(), 5);
+        assertEquals(box2dVelocity.len(), arraysVelocity.len(), 2);
+    }
+
+    @Test
+    public void testBounceOffSlasherPath()
+    {
+        for(PhysicsBackend.Kind kind : PhysicsBackend.Kind.values())
+        {
+            GameWorld gameWorld = createGameWorld(kind);
+            //out of the slasher's way
+            Ball ball = throwBall(gameWorld, 200, 60, 0, 0);
+
+            gameWorld.getSlasher().setFinger(new Vector2(100, 100));
+            gameWorld.startSlashMovement();
+            for(int i=0; i<30; i++)
+                gameWorld.tick();
+
+            //beside the path, moving towards it
+            Vector2 start = gameWorld.getSlasher().getPosition();
+            Vector2 direction = new Vector2(gameWorld.getSlasher().getBodyPosition()).sub(start).nor();
+            Vector2 normal = new Vector2(-direction.y, direction.x);
+            Vector2 middle = new Vector2(gameWorld.getSlasher().getBodyPosition()).add(start).scl(0.5f);
+            throwBall(gameWorld, middle.x+10*normal.x, middle.y+10*normal.y, -25*normal.x, -25*normal.y);
+
+            for(int i=0; i<30; i++)
+                gameWorld.tick();
+
+            assertTrue(kind.toString(), gameWorld.getSlasherIsMoving());
+            Vector2 offset = new Vector2(ball.getPosition()).sub(middle);
+            Vector2 velocity = gameWorld.getPhysics().getBallVelocity(ball.getId(), new Vector2());
+            assertTrue(kind.toString(), offset.dot(normal) > 0); //still on its side
+            assertTrue(kind.toString(), velocity.dot(normal) > 0); //moving away from the path
+        }
+    }
+
+    @Test
+    public void testBallsStayInside()
+    {
+        for(PhysicsBackend.Kind kind : PhysicsBackend.Kind.values())
+        {
+            GameWorld gameWorld = createGameWorld(kind);
+            for(int i=1; i<100; i++)
+                gameWorld.getBalls().add(gameWorld.getBallPool().obtain(60 + i%10*12, 50 + i/10*10));
+
+            for(int i=0; i<1200; i++)
+                gameWorld.getPhysics().step(STEP);
+
+            Vector2[] points = gameWorld.getGameArea().getPoints();
+            for(int i=0; i<gameWorld.getBalls().size(); i++)
+                assertTrue(kind.toString(), inside(points, gameWorld.getBalls().get(i).getPosition()));
+        }
+    }
+
+    @Test
+    public void testArraysKeepSpeed()
+    {
+        GameWorld gameWorld = createGameWorld(PhysicsBackend.Kind.ARRAYS);
+        Ball ball = throwBall(gameWorld, 100, 100, 20, 15);
+        for(int i=0; i<1200; i++)
+            gameWorld.getPhysics().step(STEP);
+        assertEquals(25, gameWorld.getPhysics().getBallVelocity(ball.getId(), new Vector2()).len(), 0.01f);
+    }
+
+    @Test
+    public void testSameSeedSameGameWithArrays()
+    {
+        SimulationResult[] results = new SimulationResult[2];
+        for(int i=0; i<2; i++)
+        {
+            SimulationRunner runner = new SimulationRunner(new RandomSlasherPolicy(3, 30), Difficulty.DEFAULT, 3, PhysicsBackend.Kind.ARRAYS);
+            assertEquals(PhysicsBackend.Kind.ARRAYS, runner.getGameWorld().getPhysics().getKind());
+            results[i] = runner.run(60*60);
+        }
+        assertEquals(results[0].score, results[1].score);
+        assertEquals(results[0].slashes, results[1].slashes);
+        assertEquals(results[0].ticks, results[1].ticks);
+    }
+}
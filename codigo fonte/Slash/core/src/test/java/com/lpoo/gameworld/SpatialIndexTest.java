@@ -0,0 +1,146 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+import com.lpoo.slashhelpers.Utilities;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests that the SpatialIndex's queries find the same balls as looking at every ball.
+ */
+public class SpatialIndexTest {
+
+    private GameWorld createGameWorld(int balls)
+    {
+        Vector2 pt1=new Vector2(20,20),pt2=new Vector2(30,175),pt3=new Vector2(235,175),pt4=new Vector2(225,20);
+        GameWorld gameWorld = new GameWorld(pt1,pt2,pt3,pt4,pt2,PhysicsBackend.Kind.ARRAYS);
+        Random random = new Random(7);
+        for(int i=1; i<balls; i++)
+            gameWorld.getBalls().add(gameWorld.getBallPool().obtain(25 + 205*random.nextFloat(), 25 + 145*random.nextFloat()));
+        gameWorld.getSnapshot().capture(gameWorld.getBalls());
+        return gameWorld;
+    }
+
+    /**
+     * @return true if the candidates are in increasing order, and include the ball i.
+     */
+    private boolean found(SpatialIndex spatialIndex, int candidates, int i)
+    {
+        boolean found = false;
+        for(int k=0; k<candidates; k++)
+        {
+            if(k>0)
+                assertTrue(spatialIndex.getResult(k-1) < spatialIndex.getResult(k));
+            if(spatialIndex.getResult(k) == i)
+                found = true;
+        }
+        return found;
+    }
+
+    /**
+     * Exact test (Utilities::pointInPolygon may accept points far outside very thin triangles).
+     */
+    private boolean inside(Vector2[] triangle, float x, float y)
+    {
+        float sides = 0;
+        for(int p=0; p<3; p++)
+        {
+            Vector2 a = triangle[p], b = triangle[(p+1)%3];
+            float side = Math.signum((b.x-a.x)*(y-a.y) - (b.y-a.y)*(x-a.x));
+            if(side*sides < 0)
+                return false;
+            sides += side;
+        }
+        return true;
+    }
+
+    private float segmentDistance(float ax, float ay, float bx, float by, float x, float y)
+    {
+        float dx = bx-ax, dy = by-ay;
+        float t = Math.max(0, Math.min(1, ((x-ax)*dx + (y-ay)*dy)/(dx*dx + dy*dy)));
+        return Vector2.dst(x, y, ax + t*dx, ay + t*dy);
+    }
+
+    @Test
+    public void testCircle()
+    {
+        GameWorld gameWorld = createGameWorld(500);
+        BallSnapshot snapshot = gameWorld.getSnapshot();
+        SpatialIndex spatialIndex = gameWorld.getSpatialIndex();
+        Random random = new Random(1);
+        for(int q=0; q<200; q++)
+        {
+            float x = 250*random.nextFloat(), y = 200*random.nextFloat(), radius = 20*random.nextFloat();
+            int candidates = spatialIndex.queryCircle(x, y, radius);
+            int inside = 0, nearby = 0;
+            for(int i=0; i<snapshot.size(); i++)
+                if(Utilities.distance(snapshot.getX(i), snapshot.getY(i), x, y) < radius)
+                {
+                    inside++;
+                    if(found(spatialIndex, candidates, i))
+                        nearby++;
+                }
+            assertEquals(inside, nearby);
+            assertTrue(candidates < snapshot.size() || radius > 10);
+        }
+    }
+
+    @Test
+    public void testPolygon()
+    {
+        GameWorld gameWorld = createGameWorld(500);
+        BallSnapshot snapshot = gameWorld.getSnapshot();
+        SpatialIndex spatialIndex = gameWorld.getSpatialIndex();
+        Random random = new Random(2);
+        for(int q=0; q<100; q++)
+        {
+            Vector2[] triangle = new Vector2[3];
+            for(int p=0; p<3; p++)
+                triangle[p] = new Vector2(250*random.nextFloat(), 200*random.nextFloat());
+            int candidates = spatialIndex.queryPolygon(triangle);
+            for(int i=0; i<snapshot.size(); i++)
+                if(inside(triangle, snapshot.getX(i), snapshot.getY(i)))
+                    assertTrue(found(spatialIndex, candidates, i));
+        }
+    }
+
+    @Test
+    public void testSegment()
+    {
+        GameWorld gameWorld = createGameWorld(500);
+        BallSnapshot snapshot = gameWorld.getSnapshot();
+        SpatialIndex spatialIndex = gameWorld.getSpatialIndex();
+        Random random = new Random(3);
+        for(int q=0; q<100; q++)
+        {
+            float ax = 250*random.nextFloat(), ay = 200*random.nextFloat();
+            float bx = 250*random.nextFloat(), by = 200*random.nextFloat();
+            int candidates = spatialIndex.querySegment(ax, ay, bx, by, 7);
+            for(int i=0; i<snapshot.size(); i++)
+                if(segmentDistance(ax, ay, bx, by, snapshot.getX(i), snapshot.getY(i)) < 7)
+                    assertTrue(found(spatialIndex, candidates, i));
+        }
+    }
+
+    @Test
+    public void testFollowsSnapshot()
+    {
+        GameWorld gameWorld = createGameWorld(50);
+        BallSnapshot snapshot = gameWorld.getSnapshot();
+        SpatialIndex spatialIndex = gameWorld.getSpatialIndex();
+        float x = snapshot.getX(10), y = snapshot.getY(10);
+        assertTrue(found(spatialIndex, spatialIndex.queryCircle(x, y, 1), 10));
+
+        //the ball moves away, and another one is removed before it
+        gameWorld.getPhysics().setBallPosition(gameWorld.getBalls().get(10).getId(), 240-x, 190-y);
+        snapshot.capture(gameWorld.getBalls());
+        snapshot.remove(3);
+        gameWorld.getBalls().remove(3);
+        assertTrue(found(spatialIndex, spatialIndex.queryCircle(240-x, 190-y, 1), 9));
+    }
+}
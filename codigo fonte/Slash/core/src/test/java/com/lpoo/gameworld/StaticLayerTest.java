@@ -0,0 +1,46 @@
+package com.lpoo.gameworld;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests the vertices of the StaticLayer's mesh (built without OpenGL).
+ */
+public class StaticLayerTest {
+
+    @Test
+    public void testVertices()
+    {
+        Vector2[] points = {new Vector2(20,20), new Vector2(20,170), new Vector2(230,170), new Vector2(230,20)};
+        float[] vertices = new float[StaticLayer.VERTICES*StaticLayer.FLOATS_PER_VERTEX];
+        StaticLayer.fill(vertices, points, 352, 200);
+
+        //background: 2 triangles covering the whole screen
+        float minX = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, minY = Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for(int v=0; v<6; v++)
+        {
+            minX = Math.min(minX, vertices[3*v]);
+            maxX = Math.max(maxX, vertices[3*v]);
+            minY = Math.min(minY, vertices[3*v+1]);
+            maxY = Math.max(maxY, vertices[3*v+1]);
+        }
+        assertEquals(0, minX, 0);
+        assertEquals(352, maxX, 0);
+        assertEquals(0, minY, 0);
+        assertEquals(200, maxY, 0);
+
+        //first edge (vertical, x=20 from y=20 to 170): a thin rect around it
+        for(int v=6; v<12; v++)
+        {
+            assertEquals(20, vertices[3*v], StaticLayer.LINE_WIDTH/2 + 0.0001f);
+            assertEquals(StaticLayer.LINE_WIDTH/2, Math.abs(vertices[3*v]-20), 0.0001f);
+            float y = vertices[3*v+1];
+            assertEquals(true, y == 20 || y == 170);
+        }
+        //the background and the outline have different colors
+        assertEquals(false, vertices[2] == vertices[3*6+2]);
+    }
+}
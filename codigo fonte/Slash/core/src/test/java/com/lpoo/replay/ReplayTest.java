@@ -0,0 +1,164 @@
+package com.lpoo.replay;
+
+import com.lpoo.gameworld.Difficulty;
+import com.lpoo.gameworld.GameWorld;
+import com.lpoo.gameworld.PhysicsBackend;
+import com.lpoo.simulation.SimulationResult;
+import com.lpoo.simulation.SimulationRunner;
+import com.lpoo.simulation.SlasherPolicy;
+import com.lpoo.slashhelpers.InputHandler;
+import com.lpoo.slashhelpers.RandomStream;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for recording games and replaying them headless.
+ */
+public class ReplayTest {
+
+    /**
+     * Plays like a user: drags the finger around for a while, then releases it, with every input recorded.
+     */
+    private static class RecordingPolicy implements SlasherPolicy {
+        private RandomStream rand;
+        private InputRecorder recorder;
+        private InputHandler handler;
+
+        RecordingPolicy(long seed) {
+            rand = new RandomStream(seed);
+        }
+
+        @Override
+        public void act(GameWorld gameWorld) {
+            if(handler == null) {
+                recorder = new InputRecorder(gameWorld);
+                handler = new InputHandler(gameWorld, null, recorder);
+            }
+            int r = rand.nextInt(40);
+            if(r < 4)
+                handler.drag(InputLog.quantize(250*rand.nextFloat()), InputLog.quantize(200*rand.nextFloat()));
+            else if(r == 4)
+                handler.release();
+        }
+    }
+
+    @Test
+    public void testHeaderAndRecords()
+    {
+        Difficulty difficulty = new Difficulty(7, 3, 12.5f, 80);
+        InputRecorder recorder = new InputRecorder(-1234567890123L, difficulty, 120, PhysicsBackend.Kind.ARRAYS);
+        recorder.drag(5, InputLog.quantize(100.5f), InputLog.quantize(20));
+        recorder.drag(6, InputLog.quantize(99), InputLog.quantize(21.25f));
+        recorder.release(300);
+        recorder.end(1000, 12);
+        byte[] data = recorder.toByteArray();
+        InputLog log = InputLog.read(data);
+
+        assertEquals(-1234567890123L, log.getSeed());
+        assertEquals(7, log.getDifficulty().getTimerLimit());
+        assertEquals(3, log.getDifficulty().getRedirecterScoreLimit());
+        assertEquals(12.5f, log.getDifficulty().getBallVelocity(), 0);
+        assertEquals(80, log.getDifficulty().getSlasherVelocity(), 0);
+        assertEquals(120, log.getPhysicsRate());
+        assertEquals(PhysicsBackend.Kind.ARRAYS, log.getPhysics());
+
+        assertEquals(4, log.size());
+        assertEquals(5, log.getTick(0));
+        assertEquals(100.5f, InputLog.dequantize(log.getX(0)), 0);
+        assertEquals(99, InputLog.dequantize(log.getX(1)), 0);
+        assertEquals(21.25f, InputLog.dequantize(log.getY(1)), 0);
+        assertEquals(InputLog.RELEASE, log.getType(2));
+        assertEquals(300, log.getTick(2));
+        assertEquals(12, log.getRecordedScore());
+        //small deltas take few bytes: 2 (first drag head) + 3+2 + 1+1+1 + 2 + 2+1
+        assertTrue(data.length < 40);
+    }
+
+    @Test
+    public void testManyReleases()
+    {
+        //taps and the profiler's third finger record a 1 byte RELEASE each
+        InputRecorder recorder = new InputRecorder(1, Difficulty.DEFAULT, 60);
+        for(int i=0; i<1000; i++)
+            recorder.release(i);
+        recorder.end(1000, 0);
+        InputLog log = InputLog.read(recorder.toByteArray());
+
+        assertEquals(1001, log.size());
+        assertEquals(InputLog.RELEASE, log.getType(999));
+        assertEquals(999, log.getTick(999));
+        assertEquals(1000, log.getLastTick());
+        assertEquals(0, log.getRecordedScore());
+    }
+
+    @Test
+    public void testEmptyLog()
+    {
+        InputLog log = InputLog.read(new InputRecorder(1, Difficulty.DEFAULT, 60).toByteArray());
+        assertEquals(0, log.size());
+        assertEquals(0, log.getLastTick());
+        assertEquals(-1, log.getRecordedScore());
+        assertFalse(ReplayDriver.matches(log, ReplayDriver.replay(log)));
+    }
+
+    @Test
+    public void testReplayGivesSameGame()
+    {
+        for(int seed=0; seed<5; seed++)
+        {
+            RecordingPolicy recording = new RecordingPolicy(seed);
+            SimulationRunner runner = new SimulationRunner(recording, seed);
+            SimulationResult recorded = runner.run(100000);
+            recording.recorder.end(runner.getGameWorld().getTicks(), recorded.score);
+
+            InputLog log = InputLog.read(recording.recorder.toByteArray());
+            SimulationResult replayed = ReplayDriver.replay(log);
+
+            assertEquals(recorded.score, replayed.score);
+            assertEquals(recorded.slashes, replayed.slashes);
+            assertEquals(recorded.ticks, replayed.ticks);
+            assertTrue(ReplayDriver.matches(log, replayed));
+        }
+    }
+
+    @Test
+    public void testLowPowerReplayGivesSameGames()
+    {
+        int games = 20, same = 0;
+        for(int seed=0; seed<games; seed++)
+        {
+            RecordingPolicy recording = new RecordingPolicy(seed);
+            SimulationRunner runner = new SimulationRunner(recording, Difficulty.DEFAULT, seed, PhysicsBackend.Kind.ARRAYS);
+            SimulationResult recorded = runner.run(100000);
+            recording.recorder.end(runner.getGameWorld().getTicks(), recorded.score);
+            runner.getGameWorld().dispose();
+
+            InputLog log = InputLog.read(recording.recorder.toByteArray());
+            SimulationResult replayed = ReplayDriver.replay(log, GameWorld.LOW_POWER_PHYSICS_RATE);
+            assertTrue(replayed.gameOver);
+            if(replayed.score == recorded.score && replayed.slashes == recorded.slashes
+                    && Math.abs(replayed.survivalTime - recorded.survivalTime) <= 2f/GameWorld.LOW_POWER_PHYSICS_RATE)
+                same++;
+        }
+        //not all of them: each input may be replayed up to one (longer) step later, and the redirecter
+        //changes the balls' directions once per step
+        assertTrue(same + "/" + games, same >= games*8/10);
+    }
+
+    @Test
+    public void testReplayKeepsPhysics()
+    {
+        RecordingPolicy recording = new RecordingPolicy(7);
+        SimulationRunner runner = new SimulationRunner(recording, Difficulty.DEFAULT, 7, PhysicsBackend.Kind.ARRAYS);
+        SimulationResult recorded = runner.run(100000);
+        recording.recorder.end(runner.getGameWorld().getTicks(), recorded.score);
+
+        InputLog log = InputLog.read(recording.recorder.toByteArray());
+        assertEquals(PhysicsBackend.Kind.ARRAYS, log.getPhysics());
+        assertTrue(ReplayDriver.matches(log, ReplayDriver.replay(log)));
+    }
+}
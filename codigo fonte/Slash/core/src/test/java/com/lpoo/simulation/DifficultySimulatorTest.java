@@ -0,0 +1,75 @@
+package com.lpoo.simulation;
+
+import com.lpoo.gameworld.Difficulty;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the parallel simulation of many games.
+ */
+public class DifficultySimulatorTest {
+
+    private static final PolicyFactory idle = new PolicyFactory() {
+        @Override
+        public SlasherPolicy create(long seed) {
+            return new ScriptedSlasherPolicy(Integer.MAX_VALUE); //never slashes
+        }
+    };
+
+    @Test
+    public void testAllGamesAreSimulated()
+    {
+        DifficultySimulator simulator = new DifficultySimulator(2);
+        DifficultyReport report = simulator.run(Difficulty.DEFAULT, 20, 100000, 0, new PolicyFactory() {
+            @Override
+            public SlasherPolicy create(long seed) {
+                return new RandomSlasherPolicy(seed, 30);
+            }
+        });
+        simulator.shutdown();
+
+        assertEquals(20, report.scores.getCount());
+        assertEquals(20, report.survivalTimes.getCount());
+        assertTrue(report.scores.getMin() >= 0);
+        assertTrue(report.survivalTimes.getMax() > 0);
+    }
+
+    @Test
+    public void testTimerLimit()
+    {
+        DifficultySimulator simulator = new DifficultySimulator(2);
+        DifficultyReport shortTimer = simulator.run(new Difficulty(3, 5, 25, 60), 4, 100000, 0, idle);
+        DifficultyReport longTimer = simulator.run(new Difficulty(6, 5, 25, 60), 4, 100000, 0, idle);
+        simulator.shutdown();
+
+        //without slashing, every game lasts exactly the timer limit
+        assertEquals(3, shortTimer.survivalTimes.getMin(), 0.1f);
+        assertEquals(3, shortTimer.survivalTimes.getMax(), 0.1f);
+        assertEquals(6, longTimer.survivalTimes.getMean(), 0.1f);
+        assertEquals(0, longTimer.scores.getMax(), 0);
+    }
+
+    @Test
+    public void testDistribution()
+    {
+        float[] values = new float[100];
+        for(int i=0; i<values.length; i++)
+            values[values.length-1-i] = i+1;
+        Distribution distribution = new Distribution(values);
+
+        assertEquals(50.5, distribution.getMean(), 0.001);
+        assertEquals(1, distribution.getMin(), 0);
+        assertEquals(100, distribution.getMax(), 0);
+        assertEquals(50, distribution.getPercentile(50), 0);
+        assertEquals(90, distribution.getPercentile(90), 0);
+        assertEquals(100, distribution.getPercentile(100), 0);
+        int total = 0;
+        for(int count : distribution.getHistogram())
+            total += count;
+        assertEquals(100, total);
+        assertEquals(100, values[0], 0); //not sorted in place
+    }
+}
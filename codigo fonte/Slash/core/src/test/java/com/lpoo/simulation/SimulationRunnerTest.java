@@ -0,0 +1,73 @@
+package com.lpoo.simulation;
+
+import com.lpoo.gameworld.GameWorld;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for running games without rendering.
+ */
+public class SimulationRunnerTest {
+
+    @Test
+    public void testIdleGameEndsWhenTimerRunsOut()
+    {
+        //never slashes
+        SimulationRunner runner = new SimulationRunner(new SlasherPolicy() {
+            @Override
+            public void act(GameWorld gameWorld) {
+            }
+        }, 1);
+        SimulationResult result = runner.run(100000);
+
+        assertTrue(result.gameOver);
+        assertEquals(0, result.score);
+        assertEquals(0, result.slashes);
+        //timer is of 10 simulated seconds, no matter how fast it ran
+        assertEquals(10, result.survivalTime, 0.1f);
+    }
+
+    @Test
+    public void testStepsLimit()
+    {
+        SimulationRunner runner = new SimulationRunner(new RandomSlasherPolicy(1, 30), 1);
+        SimulationResult result = runner.run(10);
+
+        assertFalse(result.gameOver);
+        assertEquals(10, result.ticks);
+    }
+
+    @Test
+    public void testRandomPolicySlashes()
+    {
+        int slashes = 0;
+        for(int i=0; i<10; i++) //balls start in random places, so a single seed could end before any slash
+        {
+            SimulationRunner runner = new SimulationRunner(new RandomSlasherPolicy(i, 30), i);
+            SimulationResult result = runner.run(100000);
+
+            assertTrue(result.gameOver);
+            assertTrue(result.score >= result.slashes);
+            slashes += result.slashes;
+        }
+        assertTrue(slashes > 0);
+    }
+
+    @Test
+    public void testSameSeedSameGame()
+    {
+        for(int seed=0; seed<5; seed++)
+        {
+            SimulationResult first = new SimulationRunner(new RandomSlasherPolicy(seed, 30), seed).run(100000);
+            SimulationResult second = new SimulationRunner(new RandomSlasherPolicy(seed, 30), seed).run(100000);
+
+            assertEquals(first.score, second.score);
+            assertEquals(first.slashes, second.slashes);
+            assertEquals(first.ticks, second.ticks);
+        }
+    }
+}
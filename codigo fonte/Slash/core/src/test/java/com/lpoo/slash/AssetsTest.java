@@ -0,0 +1,20 @@
+package com.lpoo.slash;
+
+import com.badlogic.gdx.graphics.Pixmap;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class AssetsTest {
+
+    @Test
+    public void testTextureBytes() {
+        assertEquals(1024*512*4, Assets.textureBytes(1024, 512, Pixmap.Format.RGBA8888));
+        assertEquals(1024*512*3, Assets.textureBytes(1024, 512, Pixmap.Format.RGB888));
+        assertEquals(256*256*2, Assets.textureBytes(256, 256, Pixmap.Format.RGB565));
+        assertEquals(256*256*2, Assets.textureBytes(256, 256, Pixmap.Format.RGBA4444));
+        assertEquals(256*256, Assets.textureBytes(256, 256, Pixmap.Format.Alpha));
+        assertEquals(8192L*8192*4, Assets.textureBytes(8192, 8192, Pixmap.Format.RGBA8888)); //no int overflow
+    }
+}
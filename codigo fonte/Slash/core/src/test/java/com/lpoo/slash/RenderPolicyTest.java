@@ -0,0 +1,37 @@
+package com.lpoo.slash;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RenderPolicyTest {
+
+    private static final long MS = 1000000;
+
+    @Test
+    public void testModes() {
+        assertEquals(RenderPolicy.Mode.CONTINUOUS, RenderPolicy.continuous("GameScreen").getMode());
+        assertEquals(RenderPolicy.Mode.ON_DEMAND, RenderPolicy.onDemand("MenuScreen").getMode());
+        assertEquals(RenderPolicy.Mode.ANIMATED, RenderPolicy.animated("EasterEggScreen", 0.1f).getMode());
+    }
+
+    @Test
+    public void testStats() {
+        RenderPolicy policy = RenderPolicy.onDemand("MenuScreen");
+        policy.startStats(1000*MS);
+        //3 frames of 2ms in 1 second
+        for(int i=0; i<3; i++) {
+            policy.beginFrame(1000*MS + i*300*MS);
+            policy.endFrame(1000*MS + i*300*MS + 2*MS);
+        }
+        assertEquals(3, policy.getFrames());
+        assertEquals(3, policy.getFramesPerSecond(2000*MS), 0.0001f);
+        assertEquals(0.006f, policy.getRenderShare(2000*MS), 0.0001f);
+        assertTrue(policy.report(2000*MS).startsWith("MenuScreen (ON_DEMAND): 3 frames in 1000ms"));
+
+        policy.startStats(5000*MS); //shown again
+        assertEquals(0, policy.getFrames());
+        assertEquals(0, policy.getFramesPerSecond(5000*MS), 0);
+    }
+}
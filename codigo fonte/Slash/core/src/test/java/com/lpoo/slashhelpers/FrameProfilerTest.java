@@ -0,0 +1,92 @@
+package com.lpoo.slashhelpers;
+
+import com.lpoo.slashhelpers.FrameProfiler.Phase;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class FrameProfilerTest {
+
+    @Test
+    public void testDisabledRecordsNothing() {
+        FrameProfiler profiler = new FrameProfiler();
+        profiler.begin(Phase.PHYSICS);
+        profiler.end(Phase.PHYSICS);
+        profiler.endFrame();
+        assertEquals(0, profiler.getCount());
+        assertEquals(0, profiler.getPercentile(Phase.PHYSICS, 50), 0);
+    }
+
+    @Test
+    public void testRingBufferAndPercentiles() throws InterruptedException {
+        FrameProfiler profiler = new FrameProfiler();
+        profiler.setEnabled(true);
+        for(int i=0; i<FrameProfiler.SAMPLES+10; i++) {
+            profiler.begin(Phase.SLASHER);
+            profiler.end(Phase.SLASHER);
+            profiler.endFrame();
+        }
+        assertEquals(FrameProfiler.SAMPLES, profiler.getCount());
+
+        //one slow frame only shows up in the highest percentiles
+        profiler.begin(Phase.SLASHER);
+        Thread.sleep(20);
+        profiler.end(Phase.SLASHER);
+        profiler.endFrame();
+        assertTrue(profiler.getPercentile(Phase.SLASHER, 100) >= 20);
+        assertTrue(profiler.getPercentile(Phase.SLASHER, 99) < 20);
+        assertTrue(profiler.getPercentile(Phase.SLASHER, 50) <= profiler.getPercentile(Phase.SLASHER, 95));
+
+        profiler.reset();
+        assertEquals(0, profiler.getCount());
+    }
+
+    @Test
+    public void testNativeCallsPerFrame() {
+        FrameProfiler profiler = new FrameProfiler();
+        profiler.setEnabled(true);
+        for(int i=0; i<100; i++) {
+            profiler.addNativeCalls(10);
+            profiler.addNativeCalls(i < 99 ? 11 : 1000);
+            profiler.endFrame();
+        }
+        assertEquals(21, profiler.getNativeCallsPercentile(50));
+        assertEquals(21, profiler.getNativeCallsPercentile(99));
+        assertEquals(1010, profiler.getNativeCallsPercentile(100));
+    }
+
+    @Test
+    public void testDrawCallsPerFrame() {
+        FrameProfiler profiler = new FrameProfiler();
+        profiler.addDrawCalls(5, 500); //disabled, not kept
+        profiler.setEnabled(true);
+        for(int i=0; i<100; i++) {
+            profiler.addDrawCalls(1, 30);
+            profiler.addDrawCalls(2, i < 99 ? 100 : 5000);
+            profiler.endFrame();
+        }
+        assertEquals(3, profiler.getDrawCallsPercentile(50));
+        assertEquals(130, profiler.getVerticesPercentile(99));
+        assertEquals(5030, profiler.getVerticesPercentile(100));
+    }
+
+    @Test
+    public void testMeasuresOnlyWithOverlay() {
+        FrameProfiler profiler = new FrameProfiler();
+        profiler.toggleOverlay();
+        assertTrue(profiler.isEnabled());
+        profiler.endFrame();
+        assertEquals(1, profiler.getCount());
+
+        profiler.toggleOverlay();
+        assertFalse(profiler.isEnabled());
+        profiler.endFrame();
+        assertEquals(1, profiler.getCount());
+
+        profiler.toggleOverlay(); //shown again, from no frames
+        assertEquals(0, profiler.getCount());
+    }
+}
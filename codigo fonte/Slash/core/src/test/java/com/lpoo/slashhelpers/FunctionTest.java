@@ -14,6 +14,7 @@ import static org.junit.Assert.*;
 /**
  * Created by Utilizador on 31/05/2016.
  */
+@SuppressWarnings("deprecation")
 public class FunctionTest {
 
     private float m;
@@ -0,0 +1,230 @@
+package com.lpoo.slashhelpers;
+
+import com.badlogic.gdx.math.Vector2;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Line and Geometry, compared with the Function based code they replaced on random well-conditioned inputs
+ * (slopes neither too flat nor too steep, lines not nearly parallel, points away from the lines),
+ * and on the vertical cases Function can't handle.
+ */
+@SuppressWarnings("deprecation")
+public class GeometryTest {
+
+    private static final int RUNS = 2000;
+
+    private Random random = new Random(17);
+
+    private Vector2 randomPoint() {
+        return new Vector2(random.nextFloat()*250, random.nextFloat()*200);
+    }
+
+    /**
+     * @return a point far enough from p and making a line with a slope between 0.1 and 10 in absolute value.
+     */
+    private Vector2 wellConditioned(Vector2 p) {
+        while(true)
+        {
+            Vector2 q = randomPoint();
+            float dx = Math.abs(q.x-p.x), dy = Math.abs(q.y-p.y);
+            if(dx > 5 && dy > 0.1f*dx && dy < 10*dx)
+                return q;
+        }
+    }
+
+    @Test
+    public void testSideMatchesFunction() {
+        for(int run=0; run<RUNS; run++)
+        {
+            Vector2 p1 = randomPoint(), p2 = wellConditioned(p1);
+            if(p1.x > p2.x) {
+                Vector2 t = p1;
+                p1 = p2;
+                p2 = t;
+            }
+            Function f = new Function(p1, p2);
+            Line line = new Line(p1.x, p1.y, p2.x, p2.y);
+            Vector2 p = randomPoint();
+            float above = p.y - f.getY(p.x);
+            if(Math.abs(above) < 1)
+                continue;
+            //going right, the left side is above
+            assertEquals(above > 0, line.value(p.x, p.y) > 0);
+            assertEquals(above > 0, Geometry.orientation(p1.x, p1.y, p2.x, p2.y, p.x, p.y) > 0);
+            assertEquals(above > 0, Geometry.orientation(p2.x, p2.y, p1.x, p1.y, p.x, p.y) < 0);
+        }
+    }
+
+    @Test
+    public void testAxisDistanceMatchesFunction() {
+        for(int run=0; run<RUNS; run++)
+        {
+            Vector2 p1 = randomPoint(), p2 = wellConditioned(p1);
+            Function f = new Function(p1, p2);
+            Line line = new Line(p1.x, p1.y, p2.x, p2.y);
+            Vector2 p = randomPoint();
+            float expected = Math.min(Math.abs(p.y-f.getY(p.x)), Math.abs(p.x-f.getX(p.y)));
+            assertEquals(expected, line.axisDistance(p.x, p.y), 0.01f + expected*0.0001f);
+            assertTrue(line.distance(p.x, p.y) <= line.axisDistance(p.x, p.y) + 0.001f);
+        }
+    }
+
+    @Test
+    public void testIntersectMatchesFunction() {
+        Vector2 out = new Vector2();
+        int crossing = 0;
+        for(int run=0; run<RUNS; run++)
+        {
+            Vector2 p1 = randomPoint(), p2 = wellConditioned(p1), p3 = randomPoint(), p4 = wellConditioned(p3);
+            Function f1 = new Function(p1, p2), f2 = new Function(p3, p4);
+            float m1 = f1.getM(), m2 = f2.getM();
+            if(Math.abs(m1-m2) < 0.2f*Math.abs(1+m1*m2))
+                continue; //nearly parallel (less than about 11 degrees apart)
+            Vector2 expected = f1.intersect(f2); //null if outside p1-p2
+
+            assertTrue(new Line(p1.x, p1.y, p2.x, p2.y).intersect(new Line(p3.x, p3.y, p4.x, p4.y), out));
+            if(expected != null) {
+                assertEquals(expected.x, out.x, 0.01f);
+                assertEquals(expected.y, out.y, 0.01f);
+            }
+            expected = new Vector2(out);
+
+            //the segments cross if the lines' intersection is inside both of them
+            boolean inside = between(expected, p1, p2) && between(expected, p3, p4);
+            out.set(-1, -1);
+            boolean crossed = Geometry.segmentIntersection(p1.x, p1.y, p2.x, p2.y, p3.x, p3.y, p4.x, p4.y, out);
+            if(Math.min(margin(expected, p1, p2), margin(expected, p3, p4)) < 0.1f)
+                continue; //too close to an end to tell
+            assertEquals(inside, crossed);
+            if(crossed) {
+                crossing++;
+                assertEquals(expected.x, out.x, 0.01f);
+                assertEquals(expected.y, out.y, 0.01f);
+            } else {
+                assertEquals(-1, out.x, 0); //left unchanged
+            }
+        }
+        assertTrue(crossing > RUNS/20);
+    }
+
+    private static boolean between(Vector2 p, Vector2 a, Vector2 b) {
+        return p.x >= Math.min(a.x, b.x) && p.x <= Math.max(a.x, b.x);
+    }
+
+    /**
+     * @return how far, in x, p is from the closest end of segment a-b.
+     */
+    private static float margin(Vector2 p, Vector2 a, Vector2 b) {
+        return Math.min(Math.abs(p.x-a.x), Math.abs(p.x-b.x));
+    }
+
+    @Test
+    public void testRaySegmentIntersection() {
+        Vector2 out = new Vector2();
+        for(int run=0; run<RUNS; run++)
+        {
+            Vector2 o = randomPoint(), finger = wellConditioned(o), a = randomPoint(), b = wellConditioned(a);
+            float dirX = finger.x-o.x, dirY = finger.y-o.y;
+            //the same as a segment long enough to reach the whole field
+            boolean crossed = Geometry.segmentIntersection(o.x, o.y, o.x+dirX*100, o.y+dirY*100,
+                    a.x, a.y, b.x, b.y, out);
+            Vector2 expected = new Vector2(out);
+            float t = Geometry.raySegmentIntersection(o.x, o.y, dirX, dirY, a.x, a.y, b.x, b.y, out);
+            assertEquals(crossed, t >= 0);
+            if(crossed) {
+                assertEquals(expected.x, out.x, 0.01f);
+                assertEquals(expected.y, out.y, 0.01f);
+                assertEquals(o.x+t*dirX, out.x, 0.01f);
+            }
+        }
+    }
+
+    @Test
+    public void testPointInConvexPolygonMatchesUtilities() {
+        int insideCount = 0;
+        for(int run=0; run<RUNS; run++)
+        {
+            Vector2[] triangle = {randomPoint(), randomPoint(), randomPoint()};
+            if(Math.abs(Geometry.orientation(triangle[0].x, triangle[0].y, triangle[1].x, triangle[1].y,
+                    triangle[2].x, triangle[2].y)) < 4000)
+                continue; //thin triangle
+            Vector2 p = randomPoint();
+            boolean nearEdge = false;
+            for(int i=0; i<3; i++)
+            {
+                Vector2 a = triangle[i], b = triangle[(i+1)%3];
+                if(new Line(a.x, a.y, b.x, b.y).distance(p.x, p.y) < 2)
+                    nearEdge = true;
+            }
+            if(nearEdge)
+                continue;
+            boolean inside = Geometry.pointInConvexPolygon(triangle, p.x, p.y);
+            assertEquals(legacyPointInPolygon(triangle, p), inside);
+            if(inside)
+                insideCount++;
+        }
+        assertTrue(insideCount > 0);
+    }
+
+    /**
+     * What Utilities::pointInPolygon did before it used Geometry.
+     */
+    private static boolean legacyPointInPolygon(Vector2[] pointsTriangle, Vector2 ballPoint) {
+        Vector2 center = new Vector2((pointsTriangle[0].x + pointsTriangle[1].x + pointsTriangle[2].x)/3,
+                (pointsTriangle[0].y + pointsTriangle[1].y + pointsTriangle[2].y)/3);
+        Function f = new Function(center, ballPoint);
+        for(int i=0; i<pointsTriangle.length; i++)
+        {
+            Function edge = new Function(pointsTriangle[i], pointsTriangle[(i+1)%3]);
+            if(Utilities.isBetween(center, f.intersect(edge), ballPoint))
+                return false;
+        }
+        return true;
+    }
+
+    @Test
+    public void testVerticalLines() {
+        Line vertical = new Line(10, 0, 10, 50);
+        assertEquals(3, vertical.axisDistance(13, 20), 0.0001f);
+        assertEquals(3, vertical.distance(7, 80), 0.0001f);
+        assertTrue(vertical.value(5, 20) > 0); //going up, the left side is x<10
+        assertTrue(vertical.value(15, 20) < 0);
+
+        Vector2 out = new Vector2();
+        assertTrue(vertical.intersect(new Line(0, 0, 20, 20), out));
+        assertEquals(10, out.x, 0.0001f);
+        assertEquals(10, out.y, 0.0001f);
+        assertFalse(vertical.intersect(new Line(30, 0, 30, 5), out));
+
+        assertTrue(Geometry.segmentIntersection(10, 0, 10, 50, 0, 30, 20, 30, out));
+        assertEquals(10, out.x, 0.0001f);
+        assertEquals(30, out.y, 0.0001f);
+        assertFalse(Geometry.segmentIntersection(10, 0, 10, 50, 0, 60, 20, 60, out));
+
+        float t = Geometry.raySegmentIntersection(0, 0, 1, 0, 10, -5, 10, 5, out);
+        assertEquals(10, t, 0.0001f);
+        assertEquals(10, out.x, 0.0001f);
+        assertEquals(0, out.y, 0.0001f);
+        assertEquals(-1, Geometry.raySegmentIntersection(20, 0, 1, 0, 10, -5, 10, 5, out), 0);
+
+        Vector2[] square = {new Vector2(0, 0), new Vector2(0, 10), new Vector2(10, 10), new Vector2(10, 0)};
+        assertTrue(Geometry.pointInConvexPolygon(square, 5, 5));
+        assertTrue(Geometry.pointInConvexPolygon(square, 0, 5));
+        assertFalse(Geometry.pointInConvexPolygon(square, -0.1f, 5));
+    }
+
+    @Test
+    public void testOrientation() {
+        assertTrue(Geometry.orientation(0, 0, 10, 0, 5, 5) > 0);
+        assertTrue(Geometry.orientation(0, 0, 10, 0, 5, -5) < 0);
+        assertEquals(0, Geometry.orientation(0, 0, 10, 0, 20, 0), 0);
+        assertEquals(100, Geometry.orientation(0, 0, 10, 0, 0, 10), 0); //twice the triangle's area
+    }
+}
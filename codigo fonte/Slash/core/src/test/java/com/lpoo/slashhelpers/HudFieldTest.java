@@ -0,0 +1,28 @@
+package com.lpoo.slashhelpers;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class HudFieldTest {
+
+    @Test
+    public void testTextOnlyChangesWithValue() {
+        HudField field = new HudField("SCORE: ");
+        assertTrue(field.set(0)); //first value
+        assertEquals("SCORE: 0", field.getText().toString());
+        CharSequence text = field.getText();
+
+        assertFalse(field.set(0));
+        assertTrue(field.set(-15));
+        assertEquals("SCORE: -15", field.getText().toString());
+        assertTrue(field.set(1234567890123L));
+        assertEquals("SCORE: 1234567890123", field.getText().toString());
+        assertEquals(1234567890123L, field.getValue());
+        assertSame(text, field.getText()); //same builder, reused
+        assertEquals(0, field.getLayouts()); //only laid out when drawn
+    }
+}
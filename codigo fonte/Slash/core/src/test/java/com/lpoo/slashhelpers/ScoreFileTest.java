@@ -0,0 +1,28 @@
+package com.lpoo.slashhelpers;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+
+public class ScoreFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testMissingFile() {
+        assertEquals(0, new ScoreFile(folder.getRoot()).read());
+    }
+
+    @Test
+    public void testWriteAndRead() throws IOException {
+        new ScoreFile(folder.getRoot()).write(42);
+        assertEquals(42, new ScoreFile(folder.getRoot()).read());
+        new ScoreFile(folder.getRoot()).write(7);
+        assertEquals(7, new ScoreFile(folder.getRoot()).read());
+    }
+}
@@ -0,0 +1,48 @@
+package com.lpoo.slash.desktop;
+
+import com.lpoo.gameworld.Difficulty;
+import com.lpoo.simulation.DifficultySimulator;
+import com.lpoo.simulation.PolicyFactory;
+import com.lpoo.simulation.RandomSlasherPolicy;
+import com.lpoo.simulation.ScriptedSlasherPolicy;
+import com.lpoo.simulation.SlasherPolicy;
+
+/**
+ * Simulates many games for each combination of difficulty parameters and prints the score and
+ * survival time distributions of each one, using all the processors.
+ * Arguments (all optional): games per parameter set, "random" or "scripted" policy, seed.
+ */
+public class DifficultySweepLauncher {
+	private static final int[] timerLimits = {5, 10, 15};
+	private static final int[] redirecterScoreLimits = {5, 10};
+	private static final float[] ballVelocities = {15, 25, 35};
+	private static final float[] slasherVelocities = {40, 60, 80};
+
+	public static void main (String[] arg) {
+		int games = arg.length > 0 ? Integer.parseInt(arg[0]) : 1000;
+		final boolean scripted = arg.length > 1 && arg[1].equals("scripted");
+		long seed = arg.length > 2 ? Long.parseLong(arg[2]) : 0;
+		long maxTicks = 60*60*10;
+
+		PolicyFactory policies = new PolicyFactory() {
+			@Override
+			public SlasherPolicy create(long seed) {
+				return scripted ? new ScriptedSlasherPolicy(60) : new RandomSlasherPolicy(seed, 30);
+			}
+		};
+
+		DifficultySimulator simulator = new DifficultySimulator();
+		long start = System.nanoTime();
+		int sets = 0;
+		for (int timerLimit : timerLimits)
+			for (int scoreLimit : redirecterScoreLimits)
+				for (float ballVelocity : ballVelocities)
+					for (float slasherVelocity : slasherVelocities) {
+						Difficulty difficulty = new Difficulty(timerLimit, scoreLimit, ballVelocity, slasherVelocity);
+						System.out.println(simulator.run(difficulty, games, maxTicks, seed, policies));
+						sets++;
+					}
+		simulator.shutdown();
+		System.out.println(sets*games + " games in " + (System.nanoTime()-start)/1000000 + "ms");
+	}
+}
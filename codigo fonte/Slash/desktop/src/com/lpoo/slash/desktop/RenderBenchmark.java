@@ -0,0 +1,106 @@
+package com.lpoo.slash.desktop;
+
+import com.badlogic.gdx.ApplicationAdapter;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.backends.lwjgl.LwjglApplication;
+import com.badlogic.gdx.backends.lwjgl.LwjglApplicationConfiguration;
+import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.lpoo.gameobjects.Ball;
+import com.lpoo.gameobjects.Redirecter;
+import com.lpoo.gameobjects.Slasher;
+import com.lpoo.gameworld.BallSnapshot;
+import com.lpoo.gameworld.Difficulty;
+import com.lpoo.gameworld.GameRenderer;
+import com.lpoo.gameworld.GameWorld;
+import com.lpoo.gameworld.PhysicsBackend;
+import com.lpoo.slash.Slash;
+
+/**
+ * Renders a game with 100, 1000 and 10000 balls, with GameRenderer (circle sprites in one SpriteBatch)
+ * and with ShapeRenderer circles (as the balls were drawn before), and prints the average time,
+ * draw calls and vertices per frame of each.
+ * Arguments (all optional): frames per measurement, seed.
+ */
+public class RenderBenchmark extends ApplicationAdapter {
+	private static final int[] BALLS = {100, 1000, 10000};
+
+	private final int frames;
+	private final long seed;
+
+	public RenderBenchmark(int frames, long seed) {
+		this.frames = frames;
+		this.seed = seed;
+	}
+
+	@Override
+	public void create() {
+		GLProfiler.enable();
+		for (int balls : BALLS) {
+			GameWorld gameWorld = newGameWorld(balls);
+			GameRenderer renderer = new GameRenderer(gameWorld, Slash.screenDimensions.x, Slash.screenDimensions.y);
+			measure("sprites", balls, gameWorld, renderer, null);
+			renderer.dispose();
+
+			OrthographicCamera cam = new OrthographicCamera();
+			cam.setToOrtho(true, Slash.screenDimensions.x, Slash.screenDimensions.y);
+			ShapeRenderer shapeRenderer = new ShapeRenderer(20000);
+			shapeRenderer.setProjectionMatrix(cam.combined);
+			measure("shapes", balls, gameWorld, null, shapeRenderer);
+			shapeRenderer.dispose();
+			gameWorld.dispose();
+		}
+		GLProfiler.disable();
+		Gdx.app.exit();
+	}
+
+	private GameWorld newGameWorld(int balls) {
+		//timer long enough for every frame, so that the game does not end
+		Difficulty difficulty = new Difficulty(1000, Redirecter.scoreLimit, Ball.defaultVelocity, Slasher.defaultVelocity);
+		GameWorld gameWorld = new GameWorld(0, difficulty, seed, PhysicsBackend.Kind.ARRAYS);
+		for (int i = gameWorld.getBalls().size(); i < balls; i++)
+			gameWorld.getBalls().add(gameWorld.getBallPool().obtain(60 + (i*7)%150, 60 + (i*13)%100));
+		return gameWorld;
+	}
+
+	/**
+	 * Renders frames (the physics step is not timed) and prints the averages.
+	 */
+	private void measure(String name, int balls, GameWorld gameWorld, GameRenderer renderer, ShapeRenderer shapeRenderer) {
+		long nanos = 0;
+		GLProfiler.reset();
+		for (int frame = 0; frame < frames; frame++) {
+			gameWorld.update(1/60f);
+			long start = System.nanoTime();
+			if (renderer != null)
+				renderer.render(frame/60f, 1);
+			else
+				drawShapes(gameWorld.getSnapshot(), shapeRenderer);
+			Gdx.gl.glFinish(); //count the GPU's work too
+			nanos += System.nanoTime() - start;
+		}
+		System.out.println(name + ", " + balls + " balls: " + nanos/frames/1000 + "us/frame, "
+				+ GLProfiler.drawCalls/frames + " draw calls/frame, "
+				+ (long)GLProfiler.vertexCount.total/frames + " vertices/frame");
+	}
+
+	private void drawShapes(BallSnapshot balls, ShapeRenderer shapeRenderer) {
+		shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
+		shapeRenderer.setColor(1, 1, 1, 1);
+		for (int i = 0; i < balls.size(); i++)
+			shapeRenderer.circle(balls.getX(i), balls.getY(i), Ball.getRadius());
+		shapeRenderer.end();
+	}
+
+	public static void main (String[] arg) {
+		int frames = arg.length > 0 ? Integer.parseInt(arg[0]) : 600;
+		long seed = arg.length > 1 ? Long.parseLong(arg[1]) : 7;
+		LwjglApplicationConfiguration config = new LwjglApplicationConfiguration();
+		config.width = (int)Slash.screenDimensions.x*3;
+		config.height = (int)Slash.screenDimensions.y*3;
+		config.vSyncEnabled = false;
+		config.foregroundFPS = 0;
+		new LwjglApplication(new RenderBenchmark(frames, seed), config);
+	}
+}
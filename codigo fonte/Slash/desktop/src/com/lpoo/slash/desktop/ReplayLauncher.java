@@ -0,0 +1,54 @@
+package com.lpoo.slash.desktop;
+
+import com.lpoo.replay.InputLog;
+import com.lpoo.replay.ReplayDriver;
+import com.lpoo.simulation.SimulationResult;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+/**
+ * Replays recorded games (saved by GameScreen as replay.slr) without rendering, and checks that each one
+ * still ends at the recorded tick with the recorded score.
+ * Arguments: log files, or directories with log files. Exits with 1 if any game did not match.
+ */
+public class ReplayLauncher {
+	public static void main (String[] arg) throws IOException {
+		int games = 0, mismatches = 0;
+		long totalTicks = 0, totalNanos = 0;
+		for (String path : arg) {
+			File file = new File(path);
+			File[] files = file.isDirectory() ? file.listFiles() : new File[] { file };
+			for (File log : files) {
+				if (log.isDirectory())
+					continue;
+				InputLog inputs = InputLog.read(readFile(log));
+				SimulationResult result = ReplayDriver.replay(inputs);
+				boolean matches = ReplayDriver.matches(inputs, result);
+				System.out.println(log.getName() + ": " + result + (matches ? "" : " MISMATCH (recorded score="
+						+ inputs.getRecordedScore() + ", ticks=" + inputs.getLastTick() + ")"));
+				games++;
+				if (!matches)
+					mismatches++;
+				totalTicks += result.ticks;
+				totalNanos += result.elapsedNanos;
+			}
+		}
+		System.out.println(games + " games replayed, " + mismatches + " mismatches, " + totalTicks + " ticks in "
+				+ totalNanos/1000000 + "ms");
+		if (mismatches > 0)
+			System.exit(1);
+	}
+
+	private static byte[] readFile (File file) throws IOException {
+		RandomAccessFile in = new RandomAccessFile(file, "r");
+		try {
+			byte[] data = new byte[(int)in.length()];
+			in.readFully(data);
+			return data;
+		} finally {
+			in.close();
+		}
+	}
+}
@@ -0,0 +1,35 @@
+package com.lpoo.slash.desktop;
+
+import com.lpoo.gameworld.Difficulty;
+import com.lpoo.gameworld.PhysicsBackend;
+import com.lpoo.simulation.RandomSlasherPolicy;
+import com.lpoo.simulation.SimulationResult;
+import com.lpoo.simulation.SimulationRunner;
+
+/**
+ * Runs games without rendering, for batch runs and profiling.
+ * Arguments (all optional): number of games, maximum physics steps per game, seed, physics backend (box2d or arrays).
+ */
+public class SimulationLauncher {
+	public static void main (String[] arg) {
+		int games = arg.length > 0 ? Integer.parseInt(arg[0]) : 100;
+		long maxTicks = arg.length > 1 ? Long.parseLong(arg[1]) : 60*60*10;
+		long seed = arg.length > 2 ? Long.parseLong(arg[2]) : System.nanoTime();
+		PhysicsBackend.Kind physics = arg.length > 3 ? PhysicsBackend.Kind.valueOf(arg[3].toUpperCase()) : PhysicsBackend.Kind.BOX2D;
+
+		long totalTicks = 0, totalNanos = 0, poolHits = 0, poolMisses = 0;
+		for (int i = 0; i < games; i++) {
+			SimulationRunner runner = new SimulationRunner(new RandomSlasherPolicy(seed + i, 30), Difficulty.DEFAULT, seed + i, physics);
+			SimulationResult result = runner.run(maxTicks);
+			System.out.println("game " + i + ": " + result);
+			totalTicks += result.ticks;
+			totalNanos += result.elapsedNanos;
+			poolHits += runner.getGameWorld().getBallPool().getHits();
+			poolMisses += runner.getGameWorld().getBallPool().getMisses();
+			runner.getGameWorld().dispose();
+		}
+		System.out.println(games + " games, " + totalTicks + " ticks in " + totalNanos/1000000 + "ms ("
+				+ (long)(totalTicks*1e9/Math.max(1, totalNanos)) + " ticks/s), ball pool: " + poolHits + " hits, "
+				+ poolMisses + " misses");
+	}
+}